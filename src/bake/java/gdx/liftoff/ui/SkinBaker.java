@@ -0,0 +1,245 @@
+package gdx.liftoff.ui;
+
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.PixmapIO;
+import com.badlogic.gdx.graphics.Texture.TextureFilter;
+import com.badlogic.gdx.graphics.g2d.PixmapPacker;
+import com.badlogic.gdx.graphics.g2d.freetype.FreeTypeFontGenerator;
+import com.badlogic.gdx.graphics.g2d.freetype.FreeTypeFontGenerator.FreeTypeBitmapFontData;
+import com.badlogic.gdx.graphics.g2d.freetype.FreeTypeFontGenerator.FreeTypeFontParameter;
+import com.badlogic.gdx.graphics.g2d.freetype.FreeTypeFontGenerator.Hinting;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.tools.bmfont.BitmapFontWriter;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.GdxNativesLoader;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.JsonReader;
+import com.badlogic.gdx.utils.JsonValue;
+import com.badlogic.gdx.utils.JsonWriter;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Rasterizes the FreeType fonts of every UI skin variant at build time, for {@code SkinLoader}. For each
+ * {@code skin*.json} in the skin folder, this writes a folder with the same name containing:
+ * <ul>
+ *     <li>one {@code .fnt} file with the metrics of each font,</li>
+ *     <li>{@code fonts.png} and {@code fonts.atlas}, with every font of the variant packed onto a single page, one
+ *     region per font,</li>
+ *     <li>{@code skin.json}, the same skin with its FreeType fonts replaced by the baked ones.</li>
+ * </ul>
+ * Run it with {@code ./gradlew bakeSkins}; the Gradle build runs it before packaging the resources.
+ */
+public final class SkinBaker {
+    private static final String FREETYPE_TAG = "com.badlogic.gdx.graphics.g2d.freetype.FreeTypeFontGenerator";
+    private static final String BITMAP_FONT_TAG = "com.badlogic.gdx.graphics.g2d.BitmapFont";
+    /** These names have to match SkinLoader, which is not on the classpath of this tool. */
+    private static final String SKIN_FILE = "skin.json";
+    private static final String ATLAS_FILE = "fonts.atlas";
+    private static final String PAGE_FILE = "fonts.png";
+    /** Each font is rasterized onto its own page first; this is enough for every glyph of the largest variant. */
+    private static final int FONT_PAGE_SIZE = 2048;
+    private static final int PADDING = 2;
+
+    private SkinBaker() {
+    }
+
+    /**
+     * Bakes every skin variant in the folder given as the first argument into the folder given as the second.
+     */
+    public static void main(String[] args) {
+        if (args.length != 2) {
+            System.err.println("Usage: SkinBaker path/to/ui-skin path/to/output");
+            System.exit(2);
+        }
+        File skinFolder = new File(args[0]);
+        File outputFolder = new File(args[1]);
+        File[] skins = skinFolder.listFiles((dir, name) -> name.startsWith("skin") && name.endsWith(".json"));
+        if (skins == null || skins.length == 0) throw new GdxRuntimeException("No skin JSON files in " + skinFolder);
+        Arrays.sort(skins);
+        GdxNativesLoader.load();
+        for (File skin : skins) {
+            String variant = skin.getName().substring(0, skin.getName().length() - 5);
+            bake(skin, new File(outputFolder, variant));
+        }
+    }
+
+    private static void bake(File skinFile, File outputFolder) {
+        JsonValue skin = new JsonReader().parse(new FileHandle(skinFile));
+        JsonValue fonts = skin.get(FREETYPE_TAG);
+        if (fonts == null) {
+            System.out.println("No FreeType fonts in " + skinFile.getName() + "; skipped.");
+            return;
+        }
+        outputFolder.mkdirs();
+        JsonValue colors = skin.get("Color");
+        Array<String> names = new Array<>();
+        Array<Pixmap> pages = new Array<>();
+        JsonValue bitmapFonts = new JsonValue(JsonValue.ValueType.object);
+        String filter = null;
+        for (JsonValue font = fonts.child; font != null; font = font.next) {
+            FreeTypeFontParameter parameter = parameter(font, colors);
+            if (filter == null) filter = parameter.minFilter + "," + parameter.magFilter;
+            PixmapPacker packer = new PixmapPacker(FONT_PAGE_SIZE, FONT_PAGE_SIZE, Pixmap.Format.RGBA8888, PADDING,
+                false, new PixmapPacker.SkylineStrategy());
+            // Same as FreeTypeFontGenerator does for its own packer: transparent pixels get the glyph color, so
+            // filtering and mipmaps do not darken the edges of glyphs.
+            packer.setTransparentColor(parameter.borderWidth > 0 ? parameter.borderColor : parameter.color);
+            packer.getTransparentColor().a = 0;
+            parameter.packer = packer;
+
+            FreeTypeFontGenerator generator = new FreeTypeFontGenerator(new FileHandle(new File(skinFile.getParentFile(), font.getString("font"))));
+            FreeTypeBitmapFontData data = generator.generateData(parameter);
+            if (packer.getPages().size != 1)
+                throw new GdxRuntimeException("Font " + font.name + " in " + skinFile.getName() + " does not fit on one page");
+            Pixmap page = trim(packer.getPages().first(), packer.getTransparentColor());
+            BitmapFontWriter.writeFont(data, new String[]{PAGE_FILE},
+                new FileHandle(new File(outputFolder, font.name + ".fnt")),
+                new BitmapFontWriter.FontInfo(font.name, parameter.size), page.getWidth(), page.getHeight());
+            generator.dispose();
+            packer.dispose();
+            names.add(font.name);
+            pages.add(page);
+
+            JsonValue bitmapFont = new JsonValue(JsonValue.ValueType.object);
+            bitmapFont.addChild("file", new JsonValue(font.name + ".fnt"));
+            if (parameter.flip) bitmapFont.addChild("flip", new JsonValue(true));
+            bitmapFonts.addChild(font.name, bitmapFont);
+        }
+        writeAtlas(names, pages, filter, outputFolder);
+        for (Pixmap page : pages) page.dispose();
+
+        // The BitmapFont section takes the place of the FreeType one, so it is still read before any style using it.
+        JsonValue baked = new JsonValue(JsonValue.ValueType.object);
+        for (JsonValue section = skin.child; section != null; ) {
+            JsonValue next = section.next;
+            section.next = section.prev = null;
+            if (FREETYPE_TAG.equals(section.name)) baked.addChild(BITMAP_FONT_TAG, bitmapFonts);
+            else baked.addChild(section.name, section);
+            section = next;
+        }
+        new FileHandle(new File(outputFolder, SKIN_FILE))
+            .writeString(baked.prettyPrint(JsonWriter.OutputType.json, 0), false, "UTF-8");
+        System.out.println("Baked " + names.size + " fonts of " + skinFile.getName() + " into " + outputFolder.getPath());
+    }
+
+    /**
+     * Reads the same fields FreeTypistSkin reads for a FreeType font. Colors may be names from the skin's Color section.
+     */
+    private static FreeTypeFontParameter parameter(JsonValue font, JsonValue colors) {
+        FreeTypeFontParameter parameter = new FreeTypeFontParameter();
+        parameter.size = font.getInt("size", parameter.size);
+        parameter.mono = font.getBoolean("mono", parameter.mono);
+        parameter.hinting = Hinting.valueOf(font.getString("hinting", parameter.hinting.name()));
+        parameter.color = color(font.get("color"), colors, parameter.color);
+        parameter.gamma = font.getFloat("gamma", parameter.gamma);
+        parameter.renderCount = font.getInt("renderCount", parameter.renderCount);
+        parameter.borderWidth = font.getFloat("borderWidth", parameter.borderWidth);
+        parameter.borderColor = color(font.get("borderColor"), colors, parameter.borderColor);
+        parameter.borderStraight = font.getBoolean("borderStraight", parameter.borderStraight);
+        parameter.borderGamma = font.getFloat("borderGamma", parameter.borderGamma);
+        parameter.shadowOffsetX = font.getInt("shadowOffsetX", parameter.shadowOffsetX);
+        parameter.shadowOffsetY = font.getInt("shadowOffsetY", parameter.shadowOffsetY);
+        parameter.shadowColor = color(font.get("shadowColor"), colors, parameter.shadowColor);
+        parameter.spaceX = font.getInt("spaceX", parameter.spaceX);
+        parameter.spaceY = font.getInt("spaceY", parameter.spaceY);
+        parameter.characters = font.getString("characters", parameter.characters);
+        parameter.kerning = font.getBoolean("kerning", parameter.kerning);
+        parameter.flip = font.getBoolean("flip", parameter.flip);
+        parameter.genMipMaps = font.getBoolean("genMipMaps", parameter.genMipMaps);
+        parameter.minFilter = TextureFilter.valueOf(font.getString("minFilter", parameter.minFilter.name()));
+        parameter.magFilter = TextureFilter.valueOf(font.getString("magFilter", parameter.magFilter.name()));
+        // Every glyph has to be on the baked page; nothing can be rasterized later.
+        parameter.incremental = false;
+        return parameter;
+    }
+
+    private static Color color(JsonValue value, JsonValue colors, Color defaultColor) {
+        if (value == null) return defaultColor;
+        if (value.isString()) {
+            JsonValue named = colors == null ? null : colors.get(value.asString());
+            if (named == null) throw new GdxRuntimeException("Unknown color: " + value.asString());
+            value = named;
+        }
+        return new Color(value.getFloat("r", 1f), value.getFloat("g", 1f), value.getFloat("b", 1f), value.getFloat("a", 1f));
+    }
+
+    /**
+     * Crops the unused right and bottom parts of a page. Glyphs are packed from the top left, so their positions stay
+     * the same.
+     */
+    private static Pixmap trim(PixmapPacker.Page page, Color background) {
+        int width = 1, height = 1;
+        for (Rectangle rect : page.getRects().values()) {
+            width = Math.max(width, (int) (rect.x + rect.width) + PADDING);
+            height = Math.max(height, (int) (rect.y + rect.height) + PADDING);
+        }
+        Pixmap source = page.getPixmap();
+        width = Math.min(width, source.getWidth());
+        height = Math.min(height, source.getHeight());
+        Pixmap trimmed = new Pixmap(width, height, Pixmap.Format.RGBA8888);
+        trimmed.setBlending(Pixmap.Blending.None);
+        trimmed.setColor(background);
+        trimmed.fill();
+        trimmed.drawPixmap(source, 0, 0, 0, 0, width, height);
+        return trimmed;
+    }
+
+    /**
+     * Packs the font pages onto one page, in rows from the tallest page down, and writes it with a libGDX atlas that
+     * has one region per font.
+     */
+    private static void writeAtlas(Array<String> names, Array<Pixmap> pages, String filter, File outputFolder) {
+        Integer[] order = new Integer[pages.size];
+        long area = 0;
+        int widest = 1;
+        for (int i = 0; i < order.length; i++) {
+            order[i] = i;
+            area += (long) (pages.get(i).getWidth() + PADDING) * (pages.get(i).getHeight() + PADDING);
+            widest = Math.max(widest, pages.get(i).getWidth() + PADDING);
+        }
+        Arrays.sort(order, (a, b) -> pages.get(b).getHeight() - pages.get(a).getHeight());
+        int width = MathUtils.nextPowerOfTwo(Math.max(widest, (int) Math.ceil(Math.sqrt(area))));
+
+        int[] x = new int[order.length], y = new int[order.length];
+        int rowX = 0, rowY = 0, rowHeight = 0;
+        for (int i : order) {
+            Pixmap page = pages.get(i);
+            if (rowX + page.getWidth() > width) {
+                rowX = 0;
+                rowY += rowHeight + PADDING;
+                rowHeight = 0;
+            }
+            x[i] = rowX;
+            y[i] = rowY;
+            rowX += page.getWidth() + PADDING;
+            rowHeight = Math.max(rowHeight, page.getHeight());
+        }
+        int height = MathUtils.nextPowerOfTwo(rowY + rowHeight);
+
+        Pixmap atlas = new Pixmap(width, height, Pixmap.Format.RGBA8888);
+        atlas.setBlending(Pixmap.Blending.None);
+        StringBuilder sb = new StringBuilder(256);
+        sb.append(PAGE_FILE).append('\n')
+            .append("size:").append(width).append(',').append(height).append('\n')
+            .append("format:RGBA8888\n")
+            .append("filter:").append(filter).append('\n')
+            .append("repeat:none\n");
+        for (int i = 0; i < pages.size; i++) {
+            Pixmap page = pages.get(i);
+            atlas.drawPixmap(page, x[i], y[i]);
+            sb.append(names.get(i)).append('\n')
+                .append("bounds:").append(x[i]).append(',').append(y[i]).append(',')
+                .append(page.getWidth()).append(',').append(page.getHeight()).append('\n');
+        }
+        PixmapIO.writePNG(new FileHandle(new File(outputFolder, PAGE_FILE)), atlas);
+        atlas.dispose();
+        new FileHandle(new File(outputFolder, ATLAS_FILE)).writeString(sb.toString(), false,
+            StandardCharsets.UTF_8.name());
+    }
+}
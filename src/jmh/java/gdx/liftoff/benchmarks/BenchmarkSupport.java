@@ -0,0 +1,57 @@
+package gdx.liftoff.benchmarks;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.Version;
+import com.badlogic.gdx.backends.lwjgl3.Lwjgl3Files;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.utils.GdxNativesLoader;
+import gdx.liftoff.Listing;
+import gdx.liftoff.config.Configuration;
+import gdx.liftoff.data.languages.Java;
+import gdx.liftoff.data.platforms.Platform;
+import gdx.liftoff.data.project.*;
+import gdx.liftoff.data.templates.Template;
+import gdx.liftoff.ui.UserData;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+
+/**
+ * Shared setup for the benchmarks. Mirrors what Sample does, so no window or GL context is ever created.
+ */
+final class BenchmarkSupport {
+    private static boolean initialized;
+
+    private BenchmarkSupport() {
+    }
+
+    static synchronized void initialize() {
+        if (initialized) return;
+        GdxNativesLoader.load();
+        Gdx.files = new Lwjgl3Files();
+        UserData.languages = new LinkedHashSet<>();
+        UserData.languageVersions = new LinkedHashMap<>();
+        initialized = true;
+    }
+
+    /**
+     * Creates a project that has every platform, no extensions, and the given template.
+     */
+    static Project createProject(Template template, FileHandle destination) {
+        BasicProjectData basicData = new BasicProjectData("benchmark", "gdx.liftoff.benchmark", "Main",
+            destination, new FileHandle(new File(".")));
+        String javaVersion = Java.INSTANCE.getVersion();
+        AdvancedProjectData advancedData = new AdvancedProjectData(Configuration.VERSION, Version.VERSION, javaVersion,
+            "2.2.7", javaVersion, javaVersion, true, true, new ArrayList<>(0), true, 4, BuildProfile.MINIMAL_RAM);
+        LinkedHashMap<String, Platform> platforms = new LinkedHashMap<>(Listing.platforms.size());
+        for (Platform p : Listing.platforms) {
+            platforms.put(p.getId(), p);
+        }
+        return new Project(basicData, platforms, advancedData,
+            new LanguagesData(new ArrayList<>(0), Collections.emptyMap()),
+            new ExtensionsData(Collections.emptyList(), Collections.emptyList()), template);
+    }
+}
@@ -0,0 +1,62 @@
+package gdx.liftoff.benchmarks;
+
+import com.badlogic.gdx.files.FileHandle;
+import gdx.liftoff.Preset;
+import gdx.liftoff.Sample;
+import gdx.liftoff.data.files.MemorySink;
+import gdx.liftoff.data.project.Project;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link Project#generate()} for each {@link Preset} used by Sample, writing either to a temporary directory
+ * or to a {@link MemorySink}, which shows how much of the time is spent on disk I/O.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class GenerationBenchmark {
+    @Param({"DEFAULT", "KOTLIN", "KTX", "KTX_WEB", "ANDROID_DEVICE", "GWT", "TEA_KOTLIN"})
+    public String preset;
+
+    private File root;
+    private FileHandle destination;
+    private final MemorySink memory = new MemorySink();
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        BenchmarkSupport.initialize();
+        root = Files.createTempDirectory("liftoff-jmh").toFile();
+        destination = new FileHandle(new File(root, preset));
+    }
+
+    @Setup(Level.Invocation)
+    public void clean() {
+        // Each generation should start from an empty folder, as it does in the app.
+        destination.deleteDirectory();
+        memory.clear();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        new FileHandle(root).deleteDirectory();
+    }
+
+    @Benchmark
+    public Project generateToDisk() {
+        Project project = Sample.createProject(Preset.valueOf(preset), destination);
+        project.generate();
+        return project;
+    }
+
+    @Benchmark
+    public MemorySink generateToMemory() {
+        Project project = Sample.createProject(Preset.valueOf(preset), destination);
+        project.generate(memory);
+        return memory;
+    }
+}
@@ -0,0 +1,48 @@
+package gdx.liftoff.benchmarks;
+
+import com.badlogic.gdx.files.FileHandle;
+import gdx.liftoff.Listing;
+import gdx.liftoff.data.files.gradle.GradleFile;
+import gdx.liftoff.data.platforms.Core;
+import gdx.liftoff.data.project.Project;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.File;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link GradleFile#getContent()} for the root and core build files when they hold many dependencies.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class GradleFileBenchmark {
+    @Param({"10", "100", "1000"})
+    public int dependencies;
+
+    private Project project;
+    private GradleFile core;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        BenchmarkSupport.initialize();
+        project = BenchmarkSupport.createProject(Listing.templates.get(0), new FileHandle(new File("build/tmp/jmh-unused")));
+        core = project.getGradleFile(Core.ID);
+        for (int i = 0; i < dependencies; i++) {
+            project.getRootGradle().getBuildDependencies().add("\"com.example.plugin:plugin-" + i + ":1.0." + i + "\"");
+            project.getRootGradle().getPlugins().add("com.example.plugin" + i);
+            core.addDependency("com.example:library-" + i + ":$library" + i + "Version");
+            core.addSpecialDependency("api \"com.example:special-" + i + ":1.0." + i + "\"");
+        }
+    }
+
+    @Benchmark
+    public String rootGradleContent() {
+        return project.getRootGradle().getContent();
+    }
+
+    @Benchmark
+    public String coreGradleContent() {
+        return core.getContent();
+    }
+}
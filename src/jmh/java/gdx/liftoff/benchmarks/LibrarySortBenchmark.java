@@ -0,0 +1,36 @@
+package gdx.liftoff.benchmarks;
+
+import gdx.liftoff.Listing;
+import gdx.liftoff.NaturalTextComparator;
+import gdx.liftoff.data.libraries.Library;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures sorting every third-party library with {@link Listing#libraryOrder}, which uses
+ * {@link NaturalTextComparator}, as the third-party list does at startup.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class LibrarySortBenchmark {
+    private ArrayList<Library> shuffled;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        BenchmarkSupport.initialize();
+        shuffled = new ArrayList<>(Listing.unofficialCatalog.getLibraries());
+        Collections.shuffle(shuffled, new Random(123456789L));
+    }
+
+    @Benchmark
+    public ArrayList<Library> sortUnofficialLibraries() {
+        ArrayList<Library> libraries = new ArrayList<>(shuffled);
+        libraries.sort(Listing.libraryOrder);
+        return libraries;
+    }
+}
@@ -0,0 +1,51 @@
+package gdx.liftoff.benchmarks;
+
+import com.badlogic.gdx.files.FileHandle;
+import gdx.liftoff.Listing;
+import gdx.liftoff.data.files.ProjectFile;
+import gdx.liftoff.data.files.SourceFile;
+import gdx.liftoff.data.project.Project;
+import gdx.liftoff.data.templates.Template;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.File;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link Template#apply(Project)} for every template, which renders all of its source files in memory.
+ * Nothing is written to disk.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TemplateBenchmark {
+    @Param({"classic", "applicationAdapter", "applicationListener", "emptyTemplate", "gameTemplate", "inputProcessor",
+        "kotlinTemplate", "kotlinClassicTemplate", "scene2dTemplate", "superKoalio", "isometricVoxel",
+        "lmlMvcBasicTemplate", "lmlMvcBox2dTemplate", "lmlMvcVisTemplate", "lmlKiwiInputTemplate", "lmlKiwiTemplate",
+        "ktxTemplate", "lmlTemplate", "noise4jTemplate", "visUiBasicTemplate", "visUiShowcaseTemplate"})
+    public String template;
+
+    private Template instance;
+    private Project project;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        BenchmarkSupport.initialize();
+        instance = Listing.templatesByName.get(template);
+    }
+
+    @Setup(Level.Invocation)
+    public void createProject() {
+        project = BenchmarkSupport.createProject(instance, new FileHandle(new File("build/tmp/jmh-unused")));
+    }
+
+    @Benchmark
+    public long renderSources() {
+        instance.apply(project);
+        long length = 0L;
+        for (ProjectFile file : project.getFiles()) {
+            if (file instanceof SourceFile) length += ((SourceFile) file).getContent().length();
+        }
+        return length;
+    }
+}
@@ -0,0 +1,69 @@
+package gdx.liftoff;
+
+/**
+ * Measures how long each rendered frame takes compared to the frame budget, meaning the time one display refresh
+ * lasts. Rendering is event-driven, so this also shows how many frames are rendered at all; while the UI is idle, no
+ * frames should be rendered.
+ * <br>
+ * The meter is off unless the {@code liftoff.frameMeter} system property is {@code true}, such as with
+ * {@code java -Dliftoff.frameMeter=true -jar gdx-liftoff.jar}. When on, it prints a summary every few seconds of
+ * activity: frames per second, the average and worst frame times, and how many frames went over the budget.
+ */
+public final class FrameBudgetMeter {
+    /** Minimum time between summaries, in nanoseconds. */
+    private static final long REPORT_INTERVAL = 5_000_000_000L;
+
+    private final boolean enabled;
+    private final long budget;
+    private long frameStart;
+    private long periodStart;
+    private int frames;
+    private int overBudget;
+    private long busyTime;
+    private long worstFrame;
+
+    /**
+     * @param refreshRate refresh rate of the display, in Hz; the budget is the length of one refresh
+     */
+    public FrameBudgetMeter(int refreshRate) {
+        enabled = Boolean.getBoolean("liftoff.frameMeter");
+        budget = 1_000_000_000L / Math.max(refreshRate, 1);
+        periodStart = System.nanoTime();
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Marks the start of a frame.
+     */
+    public void begin() {
+        if (enabled) frameStart = System.nanoTime();
+    }
+
+    /**
+     * Marks the end of a frame, and prints a summary if enough time passed since the last one.
+     */
+    public void end() {
+        if (!enabled) return;
+        long now = System.nanoTime();
+        long frameTime = now - frameStart;
+        frames++;
+        busyTime += frameTime;
+        worstFrame = Math.max(worstFrame, frameTime);
+        if (frameTime > budget) overBudget++;
+
+        long period = now - periodStart;
+        if (period >= REPORT_INTERVAL) {
+            System.out.printf("Frames: %d in %.1f s (%.1f/s), average %.2f ms, worst %.2f ms, %d over the %.2f ms budget%n",
+                frames, period / 1e9, frames * 1e9 / period, busyTime / 1e6 / frames, worstFrame / 1e6, overBudget,
+                budget / 1e6);
+            periodStart = now;
+            frames = 0;
+            overBudget = 0;
+            busyTime = 0;
+            worstFrame = 0;
+        }
+    }
+}
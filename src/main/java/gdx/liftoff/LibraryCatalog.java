@@ -0,0 +1,231 @@
+package gdx.liftoff;
+
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import gdx.liftoff.data.libraries.Library;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+/**
+ * Index of the third-party extensions, read from a small tab-separated resource instead of constructing every
+ * {@link Library} when {@link Listing} loads. Each {@link Entry} holds everything the UI needs to show and search an
+ * extension; the Library itself is only created, by reflection, once the extension is actually used.
+ * <br>
+ * Each line of the index holds the ID, class name, Maven group, artifact name, display name, URL, search keywords and
+ * description of one extension. Lines starting with {@code #} are ignored. The index is generated from the extension
+ * classes and the UI bundles with {@code ./gradlew libraryIndex}; to add an extension, append a line with only its
+ * ID and class name, then run that task to fill in the rest.
+ */
+public final class LibraryCatalog {
+    /** Internal path of the index of third-party extensions. */
+    public static final String INDEX_PATH = "generator/libraries.tsv";
+
+    private static final int COLUMNS = 8;
+
+    private final List<Entry> entries;
+    private final LinkedHashMap<String, Entry> entriesById;
+    private LibrarySearchIndex searchIndex;
+
+    private LibraryCatalog(List<Entry> entries) {
+        entries.sort((a, b) -> NaturalTextComparator.CASE_INSENSITIVE.compare(a.sortKey, b.sortKey));
+        this.entries = Collections.unmodifiableList(entries);
+        entriesById = new LinkedHashMap<>(entries.size() * 2);
+        for (Entry e : entries) entriesById.putIfAbsent(e.id, e);
+    }
+
+    /**
+     * One extension in the index. Sort keys are computed once, when the index is read.
+     */
+    public static final class Entry {
+        public final String id;
+        public final String className;
+        public final String group;
+        public final String artifact;
+        public final String name;
+        public final String url;
+        public final String keywords;
+        public final String description;
+        /** Artifact name without any "gdx" prefix; sorting by it matches {@link Listing#libraryOrder}. */
+        public final String sortKey;
+        /** Display name without any "gdx" prefix, used to order the extensions in the UI. */
+        public final String nameSortKey;
+
+        private volatile Library library;
+
+        Entry(String[] columns) {
+            id = columns[0];
+            className = columns[1];
+            group = columns[2];
+            artifact = columns[3].isEmpty() ? id : columns[3];
+            name = columns[4].isEmpty() ? id : columns[4];
+            url = columns[5];
+            keywords = columns[6].isEmpty() ? "unknown" : columns[6];
+            description = columns[7].isEmpty() ? "Unknown third-party extension." : columns[7];
+            sortKey = stripGdx(artifact);
+            nameSortKey = stripGdx(name);
+        }
+
+        /**
+         * @return the extension itself, created on the first call.
+         * @throws GdxRuntimeException if the class in the index cannot be instantiated.
+         */
+        public Library getLibrary() {
+            Library l = library;
+            if (l == null) {
+                synchronized (this) {
+                    l = library;
+                    if (l == null) {
+                        try {
+                            l = (Library) Class.forName(className).getDeclaredConstructor().newInstance();
+                        } catch (ReflectiveOperationException | ClassCastException e) {
+                            throw new GdxRuntimeException("Unable to create third-party extension " + id + " from " + className, e);
+                        }
+                        library = l;
+                    }
+                }
+            }
+            return l;
+        }
+    }
+
+    /**
+     * Same as {@link Listing#libraryOrder}: removes the first "gdx", with an optional space or dash after it.
+     */
+    static String stripGdx(String name) {
+        return name.replaceFirst("(?i)gdx([ -]?)", "");
+    }
+
+    /**
+     * Every entry, sorted by {@link Entry#sortKey}.
+     */
+    public List<Entry> getEntries() {
+        return entries;
+    }
+
+    /**
+     * IDs of every entry, in the same order as {@link #getEntries()}.
+     */
+    public Set<String> getIds() {
+        return Collections.unmodifiableSet(entriesById.keySet());
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * @return the entry with the given ID, or null if there is none.
+     */
+    public Entry getEntry(String id) {
+        return entriesById.get(id);
+    }
+
+    /**
+     * @return the extension with the given ID, created if needed, or null if there is none.
+     */
+    public Library getLibrary(String id) {
+        Entry e = entriesById.get(id);
+        return e == null ? null : e.getLibrary();
+    }
+
+    /**
+     * Creates every extension in the index. Only meant for tools that really need all of them.
+     */
+    public List<Library> getLibraries() {
+        ArrayList<Library> libraries = new ArrayList<>(entries.size());
+        for (Entry e : entries) libraries.add(e.getLibrary());
+        return libraries;
+    }
+
+    /**
+     * The search index over every entry, built on first use. Entries that match equally well, or every entry for an
+     * empty query, are ordered by {@link Entry#nameSortKey}, as the UI lists them.
+     */
+    public synchronized LibrarySearchIndex getSearchIndex() {
+        if (searchIndex == null) {
+            ArrayList<Entry> byName = new ArrayList<>(entries);
+            byName.sort((a, b) -> NaturalTextComparator.CASE_INSENSITIVE.compare(a.nameSortKey, b.nameSortKey));
+            searchIndex = new LibrarySearchIndex(byName);
+        }
+        return searchIndex;
+    }
+
+    /**
+     * Reads the index at the given path from the classpath.
+     */
+    public static LibraryCatalog fromResource(String path) {
+        InputStream input = LibraryCatalog.class.getClassLoader().getResourceAsStream(path);
+        if (input == null) throw new GdxRuntimeException("Missing library index: " + path);
+        try {
+            return read(input);
+        } catch (IOException e) {
+            throw new GdxRuntimeException("Unable to read library index: " + path, e);
+        }
+    }
+
+    /**
+     * Reads an index from the given stream and closes it.
+     */
+    public static LibraryCatalog read(InputStream input) throws IOException {
+        ArrayList<Entry> entries = new ArrayList<>(256);
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isEmpty() || line.startsWith("#")) continue;
+                String[] columns = Arrays.copyOf(line.split("\t", COLUMNS), COLUMNS);
+                for (int i = 0; i < COLUMNS; i++) {
+                    if (columns[i] == null) columns[i] = "";
+                }
+                entries.add(new Entry(columns));
+            }
+        }
+        return new LibraryCatalog(entries);
+    }
+
+    /**
+     * Regenerates the index file given as the only argument, using the class names already listed in it. Every other
+     * column is read from the extension classes and the UI bundles, so they never go out of sync.
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length != 1) {
+            System.err.println("Usage: LibraryCatalog path/to/libraries.tsv");
+            System.exit(2);
+        }
+        File file = new File(args[0]);
+        Properties bundle = new Properties();
+        for (String path : new String[]{"ui-data/nls.properties", "ui-data/urls.properties"}) {
+            try (InputStream input = LibraryCatalog.class.getClassLoader().getResourceAsStream(path)) {
+                if (input != null) bundle.load(new InputStreamReader(input, StandardCharsets.UTF_8));
+            }
+        }
+        LibraryCatalog current;
+        try (InputStream input = new FileInputStream(file)) {
+            current = read(input);
+        }
+        StringBuilder sb = new StringBuilder(32 * 1024);
+        sb.append("# Third-party extensions: id, class, group, artifact, name, url, keywords, description.\n")
+            .append("# Generated by ./gradlew libraryIndex from the extension classes and ui-data bundles.\n");
+        for (Entry e : current.entries) {
+            Library library = e.getLibrary();
+            String id = library.getId();
+            sb.append(id).append('\t')
+                .append(e.className).append('\t')
+                .append(library.getGroup()).append('\t')
+                .append(library.getName()).append('\t')
+                .append(clean(bundle.getProperty(id, id))).append('\t')
+                .append(clean(bundle.getProperty(id + "Url", ""))).append('\t')
+                .append(clean(bundle.getProperty(id + "Terms", "unknown"))).append('\t')
+                .append(clean(bundle.getProperty(id + "Tip", "Unknown third-party extension."))).append('\n');
+        }
+        try (Writer writer = new OutputStreamWriter(new FileOutputStream(file), StandardCharsets.UTF_8)) {
+            writer.write(sb.toString());
+        }
+        System.out.println("Wrote " + current.size() + " extensions to " + file.getPath());
+    }
+
+    /** Tabs and line breaks would break the index format, so they become spaces. */
+    private static String clean(String value) {
+        return value.replace('\t', ' ').replace('\r', ' ').replace('\n', ' ');
+    }
+}
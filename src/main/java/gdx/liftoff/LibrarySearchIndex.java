@@ -0,0 +1,214 @@
+package gdx.liftoff;
+
+import java.util.*;
+
+/**
+ * Search index over {@link LibraryCatalog} entries, built once so that each query only does a few lookups.
+ * <br>
+ * Names, IDs, keywords, Maven groups and artifact names are split into lower-case tokens, which are kept in one sorted
+ * dictionary; a term matches every token it is a prefix of with a binary search over that dictionary. Each token also
+ * has its trigrams (three-character substrings) indexed, so terms of three or more characters can match inside tokens
+ * ("lights" finds "hacklights") and survive typos ("textratpyist" still finds "textratypist").
+ * <br>
+ * Every term of a query has to match for an entry to be found. Entries are ranked by how well each term matched
+ * (exact, prefix, substring, then fuzzy) and by which field matched, with names counting most; ties keep the order the
+ * entries were given in.
+ */
+public final class LibrarySearchIndex {
+    private static final float NAME_WEIGHT = 4f;
+    private static final float ID_WEIGHT = 3f;
+    private static final float ARTIFACT_WEIGHT = 3f;
+    private static final float KEYWORD_WEIGHT = 2f;
+    private static final float GROUP_WEIGHT = 1f;
+
+    private static final float EXACT_SCORE = 1f;
+    private static final float PREFIX_SCORE = 0.75f;
+    private static final float SUBSTRING_SCORE = 0.5f;
+    private static final float FUZZY_SCORE = 0.4f;
+    /** Minimum Dice similarity of the trigrams of a term and a token for a fuzzy match. */
+    private static final float FUZZY_THRESHOLD = 0.5f;
+
+    private final List<LibraryCatalog.Entry> entries;
+    /** Every distinct token, sorted. */
+    private final String[] tokens;
+    /** For each token, the entries containing it. */
+    private final int[][] postingEntries;
+    /** For each token and entry in {@link #postingEntries}, the weight of the best field the token appears in. */
+    private final float[][] postingWeights;
+    /** For each trigram, the tokens containing it. */
+    private final HashMap<String, int[]> trigramPostings;
+
+    private final float[] scores;
+    private final float[] termScores;
+    private final int[] matchedTerms;
+    private final int[] trigramCounts;
+
+    /**
+     * Indexes the given entries; their order is the order of equally relevant results.
+     */
+    public LibrarySearchIndex(List<LibraryCatalog.Entry> entries) {
+        this.entries = Collections.unmodifiableList(new ArrayList<>(entries));
+        TreeMap<String, LinkedHashMap<Integer, Float>> postings = new TreeMap<>();
+        for (int e = 0; e < entries.size(); e++) {
+            LibraryCatalog.Entry entry = entries.get(e);
+            addField(postings, e, entry.name, NAME_WEIGHT);
+            // The name without separators lets "libgdxutils" find "libGDX Utils".
+            addToken(postings, e, compact(entry.name), NAME_WEIGHT);
+            addField(postings, e, entry.id, ID_WEIGHT);
+            addField(postings, e, entry.artifact, ARTIFACT_WEIGHT);
+            addField(postings, e, entry.keywords, KEYWORD_WEIGHT);
+            addField(postings, e, entry.group, GROUP_WEIGHT);
+        }
+
+        tokens = postings.keySet().toArray(new String[0]);
+        postingEntries = new int[tokens.length][];
+        postingWeights = new float[tokens.length][];
+        HashMap<String, ArrayList<Integer>> trigrams = new HashMap<>();
+        for (int t = 0; t < tokens.length; t++) {
+            LinkedHashMap<Integer, Float> posting = postings.get(tokens[t]);
+            postingEntries[t] = new int[posting.size()];
+            postingWeights[t] = new float[posting.size()];
+            int i = 0;
+            for (Map.Entry<Integer, Float> p : posting.entrySet()) {
+                postingEntries[t][i] = p.getKey();
+                postingWeights[t][i++] = p.getValue();
+            }
+            for (String trigram : trigrams(tokens[t])) {
+                trigrams.computeIfAbsent(trigram, k -> new ArrayList<>()).add(t);
+            }
+        }
+        trigramPostings = new HashMap<>(trigrams.size() * 2);
+        for (Map.Entry<String, ArrayList<Integer>> e : trigrams.entrySet()) {
+            ArrayList<Integer> list = e.getValue();
+            int[] ids = new int[list.size()];
+            for (int i = 0; i < ids.length; i++) ids[i] = list.get(i);
+            trigramPostings.put(e.getKey(), ids);
+        }
+
+        scores = new float[entries.size()];
+        termScores = new float[entries.size()];
+        matchedTerms = new int[entries.size()];
+        trigramCounts = new int[tokens.length];
+    }
+
+    public List<LibraryCatalog.Entry> getEntries() {
+        return entries;
+    }
+
+    /**
+     * Finds the entries matching every term of the query, most relevant first. An empty query returns every entry in
+     * the original order. Not thread-safe; queries are expected to come from the UI thread.
+     */
+    public List<LibraryCatalog.Entry> search(String query) {
+        String[] terms = tokenize(query);
+        if (terms.length == 0) return entries;
+        Arrays.fill(scores, 0f);
+        Arrays.fill(matchedTerms, 0);
+        for (String term : terms) {
+            Arrays.fill(termScores, 0f);
+            matchTerm(term);
+            for (int e = 0; e < termScores.length; e++) {
+                if (termScores[e] > 0f) {
+                    scores[e] += termScores[e];
+                    matchedTerms[e]++;
+                }
+            }
+        }
+        ArrayList<Integer> found = new ArrayList<>();
+        for (int e = 0; e < scores.length; e++) {
+            if (matchedTerms[e] == terms.length) found.add(e);
+        }
+        // A stable sort keeps the original order for equal scores.
+        found.sort((a, b) -> Float.compare(scores[b], scores[a]));
+        ArrayList<LibraryCatalog.Entry> results = new ArrayList<>(found.size());
+        for (int e : found) results.add(entries.get(e));
+        return results;
+    }
+
+    private void matchTerm(String term) {
+        // Exact and prefix matches form one range of the sorted dictionary.
+        int start = lowerBound(term);
+        int end = start;
+        while (end < tokens.length && tokens[end].startsWith(term)) {
+            score(end, tokens[end].length() == term.length() ? EXACT_SCORE : PREFIX_SCORE);
+            end++;
+        }
+        if (term.length() < 3) {
+            // Too short for trigrams; the dictionary is small enough to scan for substrings.
+            for (int t = 0; t < tokens.length; t++) {
+                if ((t < start || t >= end) && tokens[t].contains(term)) score(t, SUBSTRING_SCORE);
+            }
+            return;
+        }
+        List<String> termTrigrams = trigrams(term);
+        Arrays.fill(trigramCounts, 0);
+        for (String trigram : termTrigrams) {
+            int[] ids = trigramPostings.get(trigram);
+            if (ids == null) continue;
+            for (int t : ids) trigramCounts[t]++;
+        }
+        for (int t = 0; t < tokens.length; t++) {
+            int shared = trigramCounts[t];
+            if (shared == 0 || (t >= start && t < end)) continue;
+            if (shared == termTrigrams.size() && tokens[t].contains(term)) {
+                score(t, SUBSTRING_SCORE);
+            } else {
+                float similarity = 2f * shared / (termTrigrams.size() + Math.max(tokens[t].length() - 2, 1));
+                if (similarity >= FUZZY_THRESHOLD) score(t, FUZZY_SCORE * similarity);
+            }
+        }
+    }
+
+    private void score(int token, float score) {
+        int[] ids = postingEntries[token];
+        float[] weights = postingWeights[token];
+        for (int i = 0; i < ids.length; i++) {
+            termScores[ids[i]] = Math.max(termScores[ids[i]], score * weights[i]);
+        }
+    }
+
+    private int lowerBound(String term) {
+        int low = 0, high = tokens.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (tokens[mid].compareTo(term) < 0) low = mid + 1;
+            else high = mid;
+        }
+        return low;
+    }
+
+    private static void addField(TreeMap<String, LinkedHashMap<Integer, Float>> postings, int entry, String text, float weight) {
+        for (String token : tokenize(text)) addToken(postings, entry, token, weight);
+    }
+
+    private static void addToken(TreeMap<String, LinkedHashMap<Integer, Float>> postings, int entry, String token, float weight) {
+        if (token.isEmpty()) return;
+        postings.computeIfAbsent(token, k -> new LinkedHashMap<>()).merge(entry, weight, Math::max);
+    }
+
+    /**
+     * Splits text into lower-case tokens of letters and digits.
+     */
+    static String[] tokenize(String text) {
+        if (text == null) return new String[0];
+        ArrayList<String> tokens = new ArrayList<>();
+        for (String token : text.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}]+")) {
+            if (!token.isEmpty()) tokens.add(token);
+        }
+        return tokens.toArray(new String[0]);
+    }
+
+    private static String compact(String text) {
+        return text.toLowerCase(Locale.ROOT).replaceAll("[^\\p{L}\\p{N}]+", "");
+    }
+
+    private static List<String> trigrams(String token) {
+        if (token.length() < 3) return Collections.emptyList();
+        ArrayList<String> trigrams = new ArrayList<>(token.length() - 2);
+        for (int i = 0; i + 3 <= token.length(); i++) {
+            String trigram = token.substring(i, i + 3);
+            if (!trigrams.contains(trigram)) trigrams.add(trigram);
+        }
+        return trigrams;
+    }
+}
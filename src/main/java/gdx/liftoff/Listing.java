@@ -6,7 +6,6 @@ import gdx.liftoff.data.languages.Language;
 import gdx.liftoff.data.languages.Scala;
 import gdx.liftoff.data.libraries.Library;
 import gdx.liftoff.data.libraries.official.*;
-import gdx.liftoff.data.libraries.unofficial.*;
 import gdx.liftoff.data.platforms.*;
 import gdx.liftoff.data.templates.Template;
 import gdx.liftoff.data.templates.official.*;
@@ -71,164 +70,17 @@ public final class Listing {
         new Freetype(),
         new Tools()
     );
-    public static final TreeSet<Library> unofficialLibraries = new TreeSet<>(
-        (a, b) -> NaturalTextComparator.CASE_INSENSITIVE.compare(a.getName().replaceFirst("(?i)gdx([ -]?)", ""), b.getName().replaceFirst("(?i)gdx([ -]?)", "")));
-
-    static {
-        Collections.addAll(unofficialLibraries,
-            new ArtemisOdb(),
-            new ArtemisOdbSerializerJsonGdx(),
-            new PixscapeRuntime(),
-            new LibgdxUtils(),
-            new LibgdxUtilsBox2D(),
-            new Facebook(),
-            new Dialogs(),
-            new Fleks(),
-            new InGameConsole(),
-            new Jaci(),
-            new JaciGwt(),
-            new KotlinxCoroutines(),
-            new Noise4J(),
-            new BladeInk(),
-            new Joise(),
-            new MakeSomeNoise(),
-            new TypingLabel(),
-            new TextraTypist(),
-            new FreeTypist(),
-            new ShapeDrawer(),
-            new SimpleGraphs(),
-            new Formic(),
-            new Colorful(),
-            new Anim8(),
-            new TenPatch(),
-            new Stripe(),
-            new FreetypeSkin(),
-            new GameJoltApi(),
-            new GdxGltf(),
-            new HackLights(),
-            new SpineRuntime(),
-            new ControllerUtils(),
-            new ControllerScene2D(),
-            new ControllerMapping(),
-            new GdxVfxCore(),
-            new GdxVfxStandardEffects(),
-            new RegExodus(),
-            new VisUI(),
-            new PieMenu(),
-            new JBump(),
-            new CommonsCollections(),
-            new Fory(),
-            new Kryo(),
-            new KryoNet(),
-            new GdxWebRtc(),
-            new Guacamole(),
-            new LibgdxOboe(),
-            new LibgdxScreenManager(),
-            new TuningFork(),
-            new TinyVG(),
-            new GdxPsx(),
-            new GdxFlexBox(),
-            new GdxUnBox2D(),
-            new GdxBasisUniversal(),
-            new Lombok(),
-            new HyperLap2DRuntime(),
-            new HyperLap2DSpineExtension(),
-            new HyperLap2DTinyVGExtension(),
-            new HyperLap2DTypingLabelExtension(),
-            new GdxMiniAudio(),
-            new UniversalTween(),
-            new Crux(),
-            new Gdcrux(),
-            new Gand(),
-            new Cringe(),
-            new Digital(),
-            new Funderby(),
-            new Juniper(),
-            new Jdkgdxds(),
-            new JdkgdxdsInterop(),
-            new KryoRegExodus(),
-            new KryoDigital(),
-            new KryoJuniper(),
-            new KryoJdkgdxds(),
-            new KryoCringe(),
-            new KryoGand(),
-            new KryoGdcrux(),
-            new KryoLibgdx(),
-            new TantrumLibgdx(),
-            new TantrumRegExodus(),
-            new TantrumDigital(),
-            new TantrumJdkgdxds(),
-            new TexturePackerOnly(),
-            new TextureUnpackerOnly(),
-
-            new SquidLibUtil(),
-            new SquidLib(),
-            new SquidLibExtra(),
-            new SquidSquadCore(),
-            new SquidSquadGrid(),
-            new SquidSquadPath(),
-            new SquidSquadPlace(),
-            new SquidSquadSeek(),
-            new SquidSquadSmooth(),
-            new SquidSquadWorld(),
-            new SquidSquadGlyph(),
-            new SquidSquadOld(),
-            new SquidSquadText(),
-            new SquidSquadPress(),
-            new SquidSquadStoreCore(),
-            new SquidSquadStoreGrid(),
-            new SquidSquadStoreOld(),
-            new SquidSquadStorePath(),
-            new SquidSquadStoreText(),
-            new SquidSquadStoreWorld(),
-            new SquidSquadFreezeCore(),
-            new SquidSquadFreezeGrid(),
-            new SquidSquadFreezeOld(),
-            new SquidSquadFreezePath(),
-            new SquidSquadFreezeText(),
-            new SquidSquadFreezeWorld(),
-            new SquidSquadWrathCore(),
-            new SquidSquadWrathGrid(),
-            new SquidSquadWrathOld(),
-            new SquidSquadWrathPath(),
-            new SquidSquadWrathText(),
-            new SquidSquadWrathWorld(),
-
-            new Kiwi(),
-            new LML(),
-            new LMLVis(),
-            new Autumn(),
-            new AutumnMVC(),
-            new WebSocket(),
-            new WebSocketSerialization(),
-
-            new KtxActors(),
-            new KtxApp(),
-            new KtxAi(),
-            new KtxArtemis(),
-            new KtxAshley(),
-            new KtxAssets(),
-            new KtxAssetsAsync(),
-            new KtxAsync(),
-            new KtxBox2D(),
-            new KtxCollections(),
-            new KtxFreetype(),
-            new KtxFreetypeAsync(),
-            new KtxGraphics(),
-            new KtxI18n(),
-            new KtxInject(),
-            new KtxJson(),
-            new KtxLog(),
-            new KtxMath(),
-            new KtxPreferences(),
-            new KtxReflect(),
-            new KtxScene2D(),
-            new KtxStyle(),
-            new KtxTiled(),
-            new KtxVis(),
-            new KtxVisStyle()
-        );
-    }
+    /**
+     * Sorts libraries by name in natural order, ignoring case and any "gdx" prefix.
+     */
+    public static final Comparator<Library> libraryOrder =
+        (a, b) -> NaturalTextComparator.CASE_INSENSITIVE.compare(a.getName().replaceFirst("(?i)gdx([ -]?)", ""), b.getName().replaceFirst("(?i)gdx([ -]?)", ""));
+
+    /**
+     * Third-party extensions, sorted by {@link #libraryOrder}. Read from a small index, so that each extension is only
+     * created when it is used; see {@link LibraryCatalog}.
+     */
+    public static final LibraryCatalog unofficialCatalog = LibraryCatalog.fromResource(LibraryCatalog.INDEX_PATH);
 
     public static final LinkedHashMap<String, Library> officialByName = new LinkedHashMap<>(officialLibraries.size());
 
@@ -244,18 +96,21 @@ public final class Listing {
         return new ArrayList<>(cpy.values());
     }
 
-    public static final LinkedHashMap<String, Library> unofficialByName = new LinkedHashMap<>(unofficialLibraries.size());
-    static {
-        for (Library l : unofficialLibraries) {
-            unofficialByName.put(l.getId(), l);
-        }
+    public static final LinkedHashSet<String> unofficialNames = new LinkedHashSet<>(unofficialCatalog.getIds());
+
+    /**
+     * @return the third-party extension with the given ID, or null if there is none.
+     */
+    public static Library getUnofficialLibrary(String name) {
+        return unofficialCatalog.getLibrary(name);
     }
-    public static final LinkedHashSet<String> unofficialNames = new LinkedHashSet<>(unofficialByName.keySet());
 
     public static ArrayList<Library> chooseUnofficialLibraries(Collection<String> names) {
-        LinkedHashMap<String, Library> cpy = new LinkedHashMap<>(unofficialByName);
-        cpy.keySet().retainAll(names);
-        return new ArrayList<>(cpy.values());
+        ArrayList<Library> cpy = new ArrayList<>(names.size());
+        for (LibraryCatalog.Entry e : unofficialCatalog.getEntries()) {
+            if (names.contains(e.id)) cpy.add(e.getLibrary());
+        }
+        return cpy;
     }
 
     public static final List<Template> templates = Arrays.asList(
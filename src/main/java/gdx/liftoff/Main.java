@@ -14,7 +14,6 @@ import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.Cursor.SystemCursor;
 import com.badlogic.gdx.graphics.g2d.GlyphLayout;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
-import com.badlogic.gdx.graphics.g2d.TextureAtlas;
 import com.badlogic.gdx.graphics.glutils.HdpiMode;
 import com.badlogic.gdx.math.MathUtils;
 import com.badlogic.gdx.net.HttpRequestBuilder;
@@ -36,10 +35,13 @@ import com.kotcrab.vis.ui.widget.file.FileChooser.SelectionMode;
 import com.kotcrab.vis.ui.widget.file.FileChooserAdapter;
 import com.ray3k.stripe.*;
 import gdx.liftoff.config.LiftoffVersion;
+import gdx.liftoff.data.files.DiskSink;
+import gdx.liftoff.data.libraries.VersionCache;
 import gdx.liftoff.data.platforms.Platform;
 import gdx.liftoff.data.project.*;
 import gdx.liftoff.ui.OverlayTable;
 import gdx.liftoff.ui.RootTable;
+import gdx.liftoff.ui.SkinLoader;
 import gdx.liftoff.ui.UserData;
 import gdx.liftoff.ui.dialogs.FullscreenCompleteDialog;
 import gdx.liftoff.ui.dialogs.FullscreenDialog;
@@ -51,6 +53,7 @@ import java.io.IOException;
 import java.lang.StringBuilder;
 import java.util.*;
 import java.util.Collections;
+import java.util.concurrent.CancellationException;
 
 import static gdx.liftoff.ui.UserData.*;
 import static gdx.liftoff.ui.dialogs.FullscreenCompleteDialog.*;
@@ -75,10 +78,24 @@ public class Main extends ApplicationAdapter {
     public static Image bgImage = new Image();
     public static boolean resizingWindow;
     public static boolean generatingProject;
+    /**
+     * The generation in progress, which can be cancelled, or null if none was started yet.
+     */
+    public static GenerationMonitor generationMonitor;
+    /**
+     * The latest progress of the generation in progress, updated from the generating thread.
+     */
+    public static volatile GenerationEvent generationProgress;
     public static String latestStableVersion;
     public static Properties prop;
     public static Preferences pref;
     private static final GlyphLayout layout = new GlyphLayout();
+    private static FrameBudgetMeter frameMeter;
+    /**
+     * Longest time step given to actions in one frame. Rendering stops while nothing changes, so the first frame after
+     * a pause would otherwise make any animation that just started jump to its end.
+     */
+    private static final float MAX_DELTA = 1f / 30f;
     public static final int MIN_WINDOW_WIDTH = 400;
     public static final int MIN_WINDOW_HEIGHT = 410;
     public static final int WINDOW_BORDER = 50;
@@ -111,6 +128,21 @@ public class Main extends ApplicationAdapter {
         }
     }
 
+    private static final Timer.Task flushPrefTask = new Timer.Task() {
+        @Override
+        public void run() {
+            flushPref();
+        }
+    };
+
+    /**
+     * Flushes preferences half a second after the first call, so that many quick changes (such as toggling several
+     * checkboxes) only write the file once. Anything still pending is flushed when the application exits.
+     */
+    public static void flushPrefLater() {
+        if (!flushPrefTask.isScheduled()) Timer.schedule(flushPrefTask, 0.5f);
+    }
+
     public static void main(String[] args) {
         if (StartupHelper.startNewJvmIfRequired(true)) return; // This handles macOS support and helps on Windows.
         Lwjgl3ApplicationConfiguration config = new Lwjgl3ApplicationConfiguration();
@@ -183,12 +215,12 @@ public class Main extends ApplicationAdapter {
 
             @Override
             public void focusLost() {
-                Gdx.graphics.setContinuousRendering(false);
+                Gdx.graphics.requestRendering();
             }
 
             @Override
             public void focusGained() {
-                Gdx.graphics.setContinuousRendering(true);
+                Gdx.graphics.requestRendering();
             }
 
             @Override
@@ -228,27 +260,10 @@ public class Main extends ApplicationAdapter {
 
         screenViewport = new ScreenViewport();
         float scale = Gdx.graphics.getBackBufferScale();
+        //uses fonts baked at build time for this scale when available, and FreeType otherwise
+        skin = SkinLoader.load(scale);
         if(scale >= 1.125f) {
             float inverse = 1f / scale;
-            if(scale >= 2.375f)
-                skin = new FreeTypistSkin(Gdx.files.internal("ui-skin/skin-x2-5.json"),
-                    new TextureAtlas(Gdx.files.internal("ui-skin/skin.atlas")));
-            else if(scale >= 2.125f)
-                skin = new FreeTypistSkin(Gdx.files.internal("ui-skin/skin-x2-25.json"),
-                    new TextureAtlas(Gdx.files.internal("ui-skin/skin.atlas")));
-            else if(scale >= 1.875f)
-                skin = new FreeTypistSkin(Gdx.files.internal("ui-skin/skin-x2.json"),
-                    new TextureAtlas(Gdx.files.internal("ui-skin/skin.atlas")));
-            else if(scale >= 1.625f)
-                skin = new FreeTypistSkin(Gdx.files.internal("ui-skin/skin-x1-75.json"),
-                    new TextureAtlas(Gdx.files.internal("ui-skin/skin.atlas")));
-            else if(scale >= 1.375f)
-                skin = new FreeTypistSkin(Gdx.files.internal("ui-skin/skin-x1-5.json"),
-                    new TextureAtlas(Gdx.files.internal("ui-skin/skin.atlas")));
-            else
-                skin = new FreeTypistSkin(Gdx.files.internal("ui-skin/skin-x1-25.json"),
-                    new TextureAtlas(Gdx.files.internal("ui-skin/skin.atlas")));
-
             skin.getFont("font-button-big").getData().setScale(inverse);
             skin.getFont("font-button-mid").getData().setScale(inverse);
             skin.getFont("font-button-small").getData().setScale(inverse);
@@ -257,14 +272,16 @@ public class Main extends ApplicationAdapter {
             skin.getFont("font-label-tooltip").getData().setScale(inverse);
             skin.get("font-label", Font.class).scale(inverse);
         }
-        else {
-            skin = new FreeTypistSkin(Gdx.files.internal("ui-skin/skin.json"));
-        }
 
         skin.getFont("font-label-tooltip").getData().breakChars = new char[]{'-'};
 
         batch = new SpriteBatch();
         stage = new Stage(screenViewport, batch);
+        //actors with running actions, such as fades and tooltips, request the next frame themselves
+        stage.setActionsRequestRendering(true);
+        //frames are only rendered after input, actions, posted runnables, or calls to requestRendering()
+        Gdx.graphics.setContinuousRendering(false);
+        frameMeter = new FrameBudgetMeter(Gdx.graphics.getDisplayMode().refreshRate);
 
 
         Gdx.input.setInputProcessor(stage);
@@ -298,14 +315,26 @@ public class Main extends ApplicationAdapter {
 
     @Override
     public void render() {
+        frameMeter.begin();
         ScreenUtils.clear(Color.BLACK);
 
         //draw stage
         stage.getViewport().apply();
-        stage.act();
+        stage.act(Math.min(Gdx.graphics.getDeltaTime(), MAX_DELTA));
         stage.draw();
 
         resizingWindow = false;
+        //the loading animation is drawn from the time rather than from actions, so it needs every frame
+        if (generatingProject) Gdx.graphics.requestRendering();
+        frameMeter.end();
+    }
+
+    @Override
+    public void dispose() {
+        if (flushPrefTask.isScheduled()) {
+            flushPrefTask.cancel();
+            flushPref();
+        }
     }
 
     @Override
@@ -573,6 +602,9 @@ public class Main extends ApplicationAdapter {
         gwtPluginVersion = "2.2.7";
         UserData.addGuiAssets = Boolean.parseBoolean(prop.getProperty("addGuiAssetsDefault"));
         UserData.addReadme = Boolean.parseBoolean(prop.getProperty("addReadmeDefault"));
+        UserData.buildProfile = prop.getProperty("buildProfileDefault");
+        UserData.fetchLatestVersions = pref.getBoolean("FetchLatestVersions", false);
+        UserData.writeManifest = pref.getBoolean("WriteManifest", false);
         // This is set to empty because we don't currently have a way to remove tasks, only add them...
         UserData.gradleTasks = "";//pref.getString("GradleTasks", prop.getProperty("gradleTasksDefault"));
         UserData.projectPath = pref.getString("projectPath", prop.getProperty("projectPathDefault"));
@@ -605,9 +637,14 @@ public class Main extends ApplicationAdapter {
         gwtPluginVersion = "2.2.7";
         UserData.addGuiAssets = Boolean.parseBoolean(prop.getProperty("addGuiAssetsDefault"));
         UserData.addReadme = Boolean.parseBoolean(prop.getProperty("addReadmeDefault"));
+        UserData.buildProfile = prop.getProperty("buildProfileDefault");
+        UserData.fetchLatestVersions = false;
+        UserData.writeManifest = false;
         // This is set to empty because we don't currently have a way to remove tasks, only add them...
         UserData.gradleTasks = "";//prop.getProperty("gradleTasksDefault");
         UserData.projectPath = prop.getProperty("projectPathDefault");
+        UserData.regenerateExisting = false;
+        UserData.overwriteEdited = false;
         UserData.androidPath = prop.getProperty("androidPathDefault");
         UserData.log = "";
 
@@ -622,6 +659,8 @@ public class Main extends ApplicationAdapter {
         pref.putString("GradleTasks", gradleTasks);
         pref.putString("projectPath", projectPath);
         pref.putString("AndroidSdk", androidPath);
+        pref.putBoolean("FetchLatestVersions", false);
+        pref.putBoolean("WriteManifest", false);
         flushPref();
     }
 
@@ -646,6 +685,7 @@ public class Main extends ApplicationAdapter {
         gwtPluginVersion = "2.2.7";
         UserData.addGuiAssets = Boolean.parseBoolean(prop.getProperty("addGuiAssetsDefault"));
         UserData.addReadme = Boolean.parseBoolean(prop.getProperty("addReadmeDefault"));
+        UserData.buildProfile = prop.getProperty("buildProfileDefault");
         // This is set to empty because we don't currently have a way to remove tasks, only add them...
         UserData.gradleTasks = "";//prop.getProperty("gradleTasksDefault");
     }
@@ -714,6 +754,13 @@ public class Main extends ApplicationAdapter {
      */
     public static void generateProject() {
         generatingProject = true;
+        generationProgress = null;
+        //progress is only stored here; the generating panel shows the latest event when it is next drawn
+        GenerationMonitor monitor = new GenerationMonitor(event -> {
+            generationProgress = event;
+            Gdx.graphics.requestRendering();
+        });
+        generationMonitor = monitor;
         Thread generateThread = new Thread(() -> {
             try {
                 ArrayList<String> tasks;
@@ -729,7 +776,8 @@ public class Main extends ApplicationAdapter {
                     UserData.projectName, UserData.packageName, UserData.mainClassName,
                     Gdx.files.absolute(UserData.projectPath), Gdx.files.absolute(UserData.androidPath));
                 AdvancedProjectData advancedData = new AdvancedProjectData(appVersion, libgdxVersion, javaVersion,
-                    gwtPluginVersion, javaVersion, javaVersion, addGuiAssets, addReadme, tasks, true, 4);
+                    gwtPluginVersion, javaVersion, javaVersion, addGuiAssets, addReadme, tasks, true, 4,
+                    BuildProfile.valueOf(buildProfile));
 
                 LinkedHashMap<String, Platform> platforms = new LinkedHashMap<>(UserData.platforms.size());
                 for (String p : UserData.platforms) {
@@ -739,26 +787,44 @@ public class Main extends ApplicationAdapter {
                 ExtensionsData extensionsData = new ExtensionsData(Listing.chooseOfficialLibraries(extensions),
                     Listing.chooseUnofficialLibraries(thirdPartyLibs));
 
+                VersionCache.setFetchLatestVersions(UserData.fetchLatestVersions);
                 Project project = new Project(basicData, platforms, advancedData, languagesData, extensionsData,
                     Listing.templatesByName.getOrDefault(template, Listing.templates.get(0)));
-                project.generate();
-                project.includeGradleWrapper(new ProjectLogger() {
+                ProjectLogger logger = new ProjectLogger() {
                     @Override
                     public void log(@NotNull String message) {
                         System.out.println(message);
+                        Gdx.graphics.requestRendering();
                     }
 
                     @Override
                     public void logNls(@NotNull String bundleLine) {
                         System.out.println(prop.getProperty(bundleLine, "???"));
+                        Gdx.graphics.requestRendering();
+                    }
+                };
+                // Regenerating into an existing project only rewrites the files that changed.
+                if (UserData.regenerateExisting && basicData.getDestination().list().length != 0) {
+                    project.regenerate(logger, true, monitor, UserData.writeManifest, UserData.overwriteEdited);
+                } else {
+                    // The manifest written when the sink closes lets a later regeneration keep files edited since.
+                    try (DiskSink sink = new DiskSink(basicData.getDestination(), UserData.writeManifest)) {
+                        project.generate(sink, monitor);
+                        project.includeGradleWrapper(logger, true, sink, monitor);
                     }
-                }, true);
+                }
+                logger.log("Generation stages: " + monitor.summary());
                 log = prop.getProperty("generationEnd");
                 generatingProject = false;
+            } catch (CancellationException e) {
+                log = prop.getProperty("generationCancelled");
+                generatingProject = false;
             } catch (Exception e) {
                 log = exceptionToString(e) + "\n\n" + prop.getProperty("generationFail");
                 generatingProject = false;
             }
+            //shows the result even if nothing else is happening in the UI
+            Gdx.graphics.requestRendering();
         });
         generateThread.start();
     }
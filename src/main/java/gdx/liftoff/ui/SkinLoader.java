@@ -0,0 +1,68 @@
+package gdx.liftoff.ui;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.github.tommyettinger.freetypist.FreeTypistSkin;
+
+/**
+ * Loads the UI skin variant that matches the back-buffer scale of the display.
+ * <br>
+ * Each variant in {@code ui-skin/} describes its fonts as FreeType fonts, which would have to be rasterized every time
+ * the app starts. The {@code bakeSkins} Gradle task does that ahead of time: for each variant it packs every font into
+ * one atlas page, writes the metrics of each font next to it, and rewrites the skin JSON to use those fonts, all under
+ * {@link #BAKED_PATH}. Loading a baked variant only parses text files and uploads one font texture. FreeType is only
+ * used when no baked variant is available, such as when running from an IDE that skips the Gradle task.
+ */
+public final class SkinLoader {
+    /** Internal folder with one subfolder of baked fonts per skin variant, named after the variant's JSON file. */
+    public static final String BAKED_PATH = "ui-skin/baked/";
+    /** Name of the baked skin JSON, and base name of the font atlas, in each baked folder. */
+    public static final String BAKED_SKIN = "skin.json";
+    public static final String BAKED_ATLAS = "fonts.atlas";
+
+    private static final String ATLAS_PATH = "ui-skin/skin.atlas";
+    /** Lowest back-buffer scale that uses each variant, from largest to smallest. */
+    private static final float[] MIN_SCALES = {2.375f, 2.125f, 1.875f, 1.625f, 1.375f, 1.125f};
+    private static final String[] VARIANTS = {"skin-x2-5", "skin-x2-25", "skin-x2", "skin-x1-75", "skin-x1-5", "skin-x1-25"};
+    private static final String DEFAULT_VARIANT = "skin";
+
+    private SkinLoader() {
+    }
+
+    /**
+     * @return the name of the skin variant used at the given back-buffer scale, such as "skin-x1-5"
+     */
+    public static String variant(float scale) {
+        for (int i = 0; i < MIN_SCALES.length; i++) {
+            if (scale >= MIN_SCALES[i]) return VARIANTS[i];
+        }
+        return DEFAULT_VARIANT;
+    }
+
+    /**
+     * Loads the skin for the given back-buffer scale, using the baked fonts if they are available. Fonts are not
+     * rescaled here; callers still have to scale them by the inverse of the back-buffer scale.
+     */
+    public static FreeTypistSkin load(float scale) {
+        String variant = variant(scale);
+        FileHandle baked = Gdx.files.internal(BAKED_PATH + variant + "/" + BAKED_SKIN);
+        if (baked.exists() && baked.sibling(BAKED_ATLAS).exists()) return loadBaked(baked);
+        return new FreeTypistSkin(Gdx.files.internal("ui-skin/" + variant + ".json"),
+            new TextureAtlas(Gdx.files.internal(ATLAS_PATH)));
+    }
+
+    private static FreeTypistSkin loadBaked(FileHandle skinFile) {
+        FreeTypistSkin skin = new FreeTypistSkin();
+        TextureAtlas atlas = new TextureAtlas(Gdx.files.internal(ATLAS_PATH));
+        TextureAtlas fonts = new TextureAtlas(skinFile.sibling(BAKED_ATLAS));
+        //each font finds its page as the atlas region with the same name as its .fnt file
+        skin.addRegions(atlas);
+        skin.addRegions(fonts);
+        //registered as resources so that disposing the skin disposes the atlases
+        skin.add("ui-atlas", atlas);
+        skin.add("font-atlas", fonts);
+        skin.load(skinFile);
+        return skin;
+    }
+}
@@ -20,8 +20,29 @@ public class UserData {
     public static String gwtPluginVersion;
     public static boolean addGuiAssets;
     public static boolean addReadme;
+    public static String buildProfile;
+    /**
+     * True if extensions should use the latest versions found in their repositories instead of the versions Liftoff
+     * was tested with. Kept in the preferences, since it is a choice about this machine rather than one project.
+     */
+    public static boolean fetchLatestVersions;
+    /**
+     * True if generation should write a manifest of file hashes, so that regenerating the project later keeps files
+     * the user edited. Off by default; kept in the preferences.
+     */
+    public static boolean writeManifest;
     public static String gradleTasks;
     public static String projectPath;
+    /**
+     * True if the user chose to regenerate into the non-empty {@link #projectPath}, keeping files they edited, instead
+     * of deleting its contents. Only lasts until another folder is selected.
+     */
+    public static boolean regenerateExisting;
+    /**
+     * True if regenerating into {@link #projectPath} should also overwrite files that the manifest marks as edited.
+     * Only lasts until another folder is selected.
+     */
+    public static boolean overwriteEdited;
     public static String androidPath;
     public static String log;
 
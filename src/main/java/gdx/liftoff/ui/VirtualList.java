@@ -0,0 +1,238 @@
+package gdx.liftoff.ui;
+
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.scenes.scene2d.Actor;
+import com.badlogic.gdx.scenes.scene2d.ui.WidgetGroup;
+import com.badlogic.gdx.scenes.scene2d.utils.Cullable;
+import com.badlogic.gdx.scenes.scene2d.utils.Layout;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.IntArray;
+import com.badlogic.gdx.utils.ObjectFloatMap;
+
+/**
+ * A vertical list meant to be the widget of a ScrollPane, which only has actors for the rows that are on screen.
+ * Rows that scroll out of view go back to a pool and are bound to other items as those scroll into view, so the number
+ * of row actors stays close to what fits in the ScrollPane, no matter how many items there are. Filtering the list only
+ * replaces the items; no actors are created or destroyed.
+ * <br>
+ * Rows can have different heights, such as rows with wrapped labels. Each item is measured the first time its row is
+ * shown, and items that have not been shown yet are assumed to be as tall as the average measured row. Measurements
+ * are kept until the width of the list changes.
+ *
+ * @param <T> type of the items
+ * @param <R> type of the row actors
+ */
+public class VirtualList<T, R extends Actor & Layout> extends WidgetGroup implements Cullable {
+    /**
+     * Creates rows and fills them with the content of an item.
+     */
+    public interface RowAdapter<T, R> {
+        /**
+         * Creates an empty row. Any listeners added here should act on the item the row is currently bound to.
+         */
+        R create();
+
+        /**
+         * Updates the row to show the item. This is called whenever a row is reused for a different item, and for every
+         * visible row on {@link #refresh()}.
+         */
+        void bind(R row, T item);
+    }
+
+    private final RowAdapter<T, R> adapter;
+    private final float estimatedRowHeight;
+    private final Array<T> items = new Array<>();
+    private final ObjectFloatMap<T> rowHeights = new ObjectFloatMap<>();
+    private final Array<R> rows = new Array<>();
+    private final IntArray rowIndices = new IntArray();
+    private final Array<R> pool = new Array<>();
+    private final Rectangle cullingArea = new Rectangle();
+    private boolean culling;
+    private boolean rebind;
+    private float spacing;
+    private float measuredWidth = -1;
+    private float measuredTotal;
+    private float prefHeight = -1;
+
+    /**
+     * @param estimatedRowHeight height assumed for rows before any row has been measured
+     */
+    public VirtualList(RowAdapter<T, R> adapter, float estimatedRowHeight) {
+        this.adapter = adapter;
+        this.estimatedRowHeight = estimatedRowHeight;
+    }
+
+    /**
+     * Replaces every item. Rows are recycled and bound to the new items during the next layout.
+     */
+    public void setItems(Iterable<? extends T> newItems) {
+        items.clear();
+        for (T item : newItems) items.add(item);
+        releaseAll();
+        prefHeight = -1;
+        invalidateHierarchy();
+    }
+
+    public Array<T> getItems() {
+        return items;
+    }
+
+    /**
+     * Binds every visible row to its item again, for when the items changed in a way the rows should reflect.
+     */
+    public void refresh() {
+        rebind = true;
+        invalidate();
+    }
+
+    /**
+     * Sets the vertical space between rows.
+     */
+    public void setSpacing(float spacing) {
+        this.spacing = spacing;
+        prefHeight = -1;
+        invalidateHierarchy();
+    }
+
+    @Override
+    public void setCullingArea(Rectangle area) {
+        if (area == null) {
+            if (culling) {
+                culling = false;
+                invalidate();
+            }
+        } else if (!culling || area.y != cullingArea.y || area.height != cullingArea.height) {
+            culling = true;
+            cullingArea.set(area);
+            invalidate();
+        }
+    }
+
+    @Override
+    public Rectangle getCullingArea() {
+        return culling ? cullingArea : null;
+    }
+
+    @Override
+    public float getPrefWidth() {
+        return 0;
+    }
+
+    @Override
+    public float getPrefHeight() {
+        if (prefHeight < 0) {
+            float total = 0;
+            float average = averageRowHeight();
+            for (int i = 0; i < items.size; i++) total += rowHeights.get(items.get(i), average);
+            prefHeight = total + spacing * Math.max(items.size - 1, 0);
+        }
+        return prefHeight;
+    }
+
+    @Override
+    public void layout() {
+        float width = getWidth();
+        if (width != measuredWidth) {
+            measuredWidth = width;
+            rowHeights.clear();
+            measuredTotal = 0;
+            prefHeight = -1;
+            rebind = true;
+        }
+        float height = getHeight();
+        // The visible part, as distances from the top. Half a screen more on each side keeps fast scrolling seamless.
+        float top = 0, bottom = height;
+        if (culling) {
+            float overscan = cullingArea.height * 0.5f;
+            top = height - cullingArea.y - cullingArea.height - overscan;
+            bottom = height - cullingArea.y + overscan;
+        }
+
+        // Skipping rows above the visible part only sums their heights; no actor is touched.
+        float average = averageRowHeight();
+        int first = 0;
+        float offset = 0;
+        while (first < items.size) {
+            float rowHeight = rowHeights.get(items.get(first), average);
+            if (offset + rowHeight >= top) break;
+            offset += rowHeight + spacing;
+            first++;
+        }
+        int last = first;
+        float end = offset;
+        while (last < items.size && end <= bottom) {
+            end += rowHeights.get(items.get(last), average) + spacing;
+            last++;
+        }
+
+        // Rows bound to items that are no longer visible go back to the pool.
+        for (int i = rows.size - 1; i >= 0; i--) {
+            int index = rowIndices.get(i);
+            if (index < first || index >= last) release(i);
+        }
+
+        boolean heightsChanged = false;
+        for (int index = first; index < last && index < items.size; index++) {
+            T item = items.get(index);
+            R row = null;
+            for (int i = 0; i < rows.size; i++) {
+                if (rowIndices.get(i) == index) {
+                    row = rows.get(i);
+                    if (rebind) adapter.bind(row, item);
+                    break;
+                }
+            }
+            if (row == null) {
+                row = pool.size > 0 ? pool.pop() : adapter.create();
+                adapter.bind(row, item);
+                rows.add(row);
+                rowIndices.add(index);
+                addActor(row);
+            }
+            float rowHeight = rowHeights.get(item, -1);
+            if (rowHeight < 0) {
+                rowHeight = measure(row, width);
+                rowHeights.put(item, rowHeight);
+                measuredTotal += rowHeight;
+                heightsChanged = true;
+            }
+            row.setBounds(0, height - offset - rowHeight, width, rowHeight);
+            row.validate();
+            offset += rowHeight + spacing;
+            // A row shorter than estimated can reveal one more row below the visible part.
+            if (index == last - 1 && offset <= bottom) last++;
+        }
+        rebind = false;
+
+        if (heightsChanged) {
+            float oldHeight = prefHeight;
+            prefHeight = -1;
+            if (getPrefHeight() != oldHeight) invalidateHierarchy();
+        }
+    }
+
+    /**
+     * Lays the row out at the given width first, so that wrapped labels know their width when reporting their height.
+     */
+    private float measure(R row, float width) {
+        row.setSize(width, row.getPrefHeight());
+        row.validate();
+        row.invalidate();
+        return row.getPrefHeight();
+    }
+
+    private float averageRowHeight() {
+        return rowHeights.size == 0 ? estimatedRowHeight : measuredTotal / rowHeights.size;
+    }
+
+    private void release(int i) {
+        R row = rows.removeIndex(i);
+        rowIndices.removeIndex(i);
+        removeActor(row, false);
+        pool.add(row);
+    }
+
+    private void releaseAll() {
+        for (int i = rows.size - 1; i >= 0; i--) release(i);
+    }
+}
@@ -9,6 +9,7 @@ import com.badlogic.gdx.scenes.scene2d.ui.TextButton;
 import com.badlogic.gdx.scenes.scene2d.ui.Window.WindowStyle;
 import com.badlogic.gdx.utils.Align;
 import com.ray3k.stripe.PopTable;
+import gdx.liftoff.data.files.DiskSink;
 import gdx.liftoff.ui.UserData;
 
 import static gdx.liftoff.Main.*;
@@ -32,6 +33,11 @@ public class ConfirmDeleteProjectFolder extends PopTable {
         label.setAlignment(Align.center);
         add(label).growX().minWidth(300);
 
+        row();
+        label = new Label(prop.getProperty("regenerateFolderDescription"), skin);
+        label.setWrap(true);
+        add(label).growX();
+
         row();
         Table table = new Table();
         add(table);
@@ -43,6 +49,20 @@ public class ConfirmDeleteProjectFolder extends PopTable {
         onChange(deleteButton, this::deleteFolderContents);
         key(Keys.ENTER, this::deleteFolderContents);
 
+        TextButton regenerateButton = new TextButton(prop.getProperty("regenerate"), skin);
+        table.add(regenerateButton).uniformX().fillX();
+        addHandListener(regenerateButton);
+        onChange(regenerateButton, () -> keepFolderContents(false));
+
+        // Overwriting edited files only differs from regenerating when an earlier generation left a manifest.
+        if (UserData.writeManifest && Gdx.files.absolute(UserData.projectPath).child(DiskSink.MANIFEST_FILE).exists()) {
+            TextButton overwriteButton = new TextButton(prop.getProperty("overwriteEdited"), skin);
+            table.add(overwriteButton).uniformX().fillX();
+            addHandListener(overwriteButton);
+            addTooltip(overwriteButton, Align.top, TOOLTIP_WIDTH, prop.getProperty("overwriteEditedTip"));
+            onChange(overwriteButton, () -> keepFolderContents(true));
+        }
+
         TextButton cancelButton = new TextButton(prop.getProperty("quickCancel"), skin);
         table.add(cancelButton).uniformX().fillX();
         addHandListener(cancelButton);
@@ -55,6 +75,21 @@ public class ConfirmDeleteProjectFolder extends PopTable {
         for (FileHandle child : fileHandle.list()) {
             child.deleteDirectory();
         }
+        UserData.regenerateExisting = false;
+        UserData.overwriteEdited = false;
+        Gdx.app.postRunnable(() -> root.settingsTable.updateError());
+        if (fullscreenDialog != null) fullscreenDialog.updatePathsError();
+        hide();
+    }
+
+    /**
+     * Keeps the folder as it is, and lets the project be regenerated into it. Only generated files that changed are
+     * rewritten. Files edited since the last generation are kept if the manifest is enabled, unless
+     * {@code overwriteEdited} is true.
+     */
+    private void keepFolderContents(boolean overwriteEdited) {
+        UserData.regenerateExisting = true;
+        UserData.overwriteEdited = overwriteEdited;
         Gdx.app.postRunnable(() -> root.settingsTable.updateError());
         if (fullscreenDialog != null) fullscreenDialog.updatePathsError();
         hide();
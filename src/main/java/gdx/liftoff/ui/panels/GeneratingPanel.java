@@ -3,16 +3,24 @@ package gdx.liftoff.ui.panels;
 import com.badlogic.gdx.scenes.scene2d.ui.Image;
 import com.badlogic.gdx.scenes.scene2d.ui.Label;
 import com.badlogic.gdx.scenes.scene2d.ui.Table;
+import com.badlogic.gdx.scenes.scene2d.ui.TextButton;
 import com.badlogic.gdx.utils.Align;
 import com.ray3k.stripe.CollapsibleGroup;
 import com.ray3k.stripe.CollapsibleGroup.CollapseType;
+import gdx.liftoff.data.project.GenerationEvent;
+import gdx.liftoff.data.project.GenerationStage;
 
 import static gdx.liftoff.Main.*;
 
 /**
- * The loading animation displayed before the project is generated
+ * The loading animation displayed before the project is generated, with the current generation stage, its progress,
+ * and a button to cancel the generation
  */
 public class GeneratingPanel extends Table implements Panel {
+    private Label progressLabel;
+    private TextButton cancelButton;
+    private GenerationEvent shownProgress;
+
     public GeneratingPanel(boolean fullscreen) {
         populate(fullscreen);
     }
@@ -36,6 +44,47 @@ public class GeneratingPanel extends Table implements Panel {
         label = new Label(prop.getProperty("generating"), skin, "button-mid");
         label.setAlignment(Align.center);
         collapsibleGroup.addActor(label);
+
+        //stage and progress
+        row();
+        progressLabel = new Label("", skin, "description");
+        progressLabel.setAlignment(Align.center);
+        progressLabel.setEllipsis("...");
+        add(progressLabel).growX().minWidth(0).spaceTop(SPACE_MEDIUM);
+
+        //cancel button
+        row();
+        cancelButton = new TextButton(prop.getProperty("cancel"), skin);
+        add(cancelButton).spaceTop(SPACE_MEDIUM);
+        addTooltip(cancelButton, Align.top, TOOLTIP_WIDTH, prop.getProperty("cancelGenerationTip"));
+        addHandListener(cancelButton);
+        onChange(cancelButton, () -> {
+            if (generationMonitor != null) generationMonitor.cancel();
+            cancelButton.setDisabled(true);
+        });
+        shownProgress = null;
+    }
+
+    @Override
+    public void act(float delta) {
+        super.act(delta);
+        //the generating thread only stores its latest event, so the label is updated here, at most once per frame
+        GenerationEvent progress = generationProgress;
+        if (progress == shownProgress) return;
+        shownProgress = progress;
+        if (progress == null) {
+            progressLabel.setText("");
+            cancelButton.setDisabled(false);
+            return;
+        }
+        GenerationStage stage = progress.getStage();
+        StringBuilder sb = new StringBuilder(64);
+        sb.append(prop.getProperty(stage.getBundleLine())).append(" (").append(stage.ordinal() + 1).append('/')
+            .append(GenerationStage.values().length).append(')');
+        if (progress.getTotal() > 0) sb.append(": ").append(progress.getDone()).append('/').append(progress.getTotal());
+        else if (progress.getDone() > 0) sb.append(": ").append(progress.getDone());
+        if (progress.getBytes() > 0) sb.append(", ").append((progress.getBytes() + 1023) / 1024).append(" KB");
+        progressLabel.setText(sb);
     }
 
     @Override
@@ -66,6 +66,8 @@ public class PathsPanel extends Table implements Panel {
                         String path = files.first().path();
                         projectFieldButton.setText(path);
                         UserData.projectPath = path;
+                        UserData.regenerateExisting = false;
+                        UserData.overwriteEdited = false;
                         pref.putString("projectPath", path);
                         flushPref();
                         updateError();
@@ -194,7 +196,7 @@ public class PathsPanel extends Table implements Panel {
             errors.add(prop.getProperty("noOneDrivePaths"));
         }
 
-        if (tempFileHandle.list().length != 0) {
+        if (tempFileHandle.list().length != 0 && !UserData.regenerateExisting) {
             errors.add(prop.getProperty("notEmptyDirectory"));
         }
 
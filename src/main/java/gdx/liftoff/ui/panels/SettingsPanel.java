@@ -6,6 +6,7 @@ import com.badlogic.gdx.scenes.scene2d.ui.*;
 import com.badlogic.gdx.utils.Align;
 import com.ray3k.stripe.PopTable;
 import com.ray3k.stripe.PopTable.TableShowHideListener;
+import gdx.liftoff.data.project.BuildProfile;
 import gdx.liftoff.ui.UserData;
 import gdx.liftoff.ui.dialogs.FullscreenDialog;
 import gdx.liftoff.ui.dialogs.GradleDialog;
@@ -69,6 +70,42 @@ public class SettingsPanel extends Table implements Panel {
         ImageButton readmeImageButton = addCheck(prop.getProperty("generateReadme"), prop.getProperty("generateReadmeTip"), UserData.addReadme, table);
         onChange(readmeImageButton, () -> UserData.addReadme = readmeImageButton.isChecked());
 
+        //fetch latest versions
+        ImageButton latestImageButton = addCheck(prop.getProperty("fetchLatestVersions"), prop.getProperty("fetchLatestVersionsTip"), UserData.fetchLatestVersions, table);
+        onChange(latestImageButton, () -> {
+            UserData.fetchLatestVersions = latestImageButton.isChecked();
+            pref.putBoolean("FetchLatestVersions", UserData.fetchLatestVersions);
+            flushPrefLater();
+        });
+
+        //write manifest
+        ImageButton manifestImageButton = addCheck(prop.getProperty("writeManifest"), prop.getProperty("writeManifestTip"), UserData.writeManifest, table);
+        onChange(manifestImageButton, () -> {
+            UserData.writeManifest = manifestImageButton.isChecked();
+            pref.putBoolean("WriteManifest", UserData.writeManifest);
+            flushPrefLater();
+        });
+
+        //build profile
+        table.row();
+        Label profileLabel = new Label(prop.getProperty("buildProfile"), skin, "field");
+        profileLabel.setTouchable(Touchable.enabled);
+        profileLabel.setEllipsis("...");
+        table.add(profileLabel).minWidth(0);
+
+        TextButton profileButton = new TextButton(profileText(), skin);
+        table.add(profileButton);
+        addTooltip(profileButton, profileLabel, Align.top, TOOLTIP_WIDTH, prop.getProperty("buildProfileTip"));
+        addHandListener(profileButton);
+        addLabelHighlight(profileButton, profileLabel);
+        onChange(profileButton, () -> {
+            //cycle through the profiles in declaration order
+            BuildProfile[] profiles = BuildProfile.values();
+            BuildProfile next = profiles[(BuildProfile.valueOf(UserData.buildProfile).ordinal() + 1) % profiles.length];
+            UserData.buildProfile = next.name();
+            profileButton.setText(profileText());
+        });
+
         //add gradle tasks
         row();
         TextButton textButton = new TextButton(prop.getProperty("gradleTasksButton"), skin);
@@ -145,6 +182,13 @@ public class SettingsPanel extends Table implements Panel {
         return imageButton;
     }
 
+    /**
+     * @return the name of the selected build profile
+     */
+    private static String profileText() {
+        return prop.getProperty(BuildProfile.valueOf(UserData.buildProfile).getBundleLine());
+    }
+
     @Override
     public void captureKeyboardFocus() {
         stage.setKeyboardFocus(keyboardFocus);
@@ -5,12 +5,11 @@ import com.badlogic.gdx.scenes.scene2d.Actor;
 import com.badlogic.gdx.scenes.scene2d.ui.*;
 import com.badlogic.gdx.utils.Align;
 import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Timer;
+import gdx.liftoff.LibraryCatalog;
 import gdx.liftoff.Listing;
-import gdx.liftoff.NaturalTextComparator;
-import gdx.liftoff.data.libraries.Library;
 import gdx.liftoff.ui.UserData;
-
-import java.util.Locale;
+import gdx.liftoff.ui.VirtualList;
 
 import static gdx.liftoff.Main.*;
 
@@ -18,9 +17,12 @@ import static gdx.liftoff.Main.*;
  * A table with a searchable list of third party libraries
  */
 public class ThirdPartyPanel extends Table implements Panel {
+    /** Seconds to wait after the last keystroke before searching. */
+    private static final float SEARCH_DELAY = 0.12f;
     private Actor keyboardFocus;
-    private final Array<SearchEntry> searchEntries = new Array<>();
-    private Table scrollTable;
+    private final Array<LibraryCatalog.Entry> filteredEntries = new Array<>();
+    private VirtualList<LibraryCatalog.Entry, EntryRow> libraryList;
+    private Timer.Task searchTask;
     private CheckBox filterCheckBox;
 
     public ThirdPartyPanel(boolean fullscreen) {
@@ -45,29 +47,45 @@ public class ThirdPartyPanel extends Table implements Panel {
         add(textField).growX().spaceTop(30);
         addIbeamListener(textField);
         keyboardFocus = textField;
-        onChange(textField, () -> populateScrollTable(textField.getText()));
+        onChange(textField, () -> {
+            // Typing quickly only runs the last query.
+            searchTask.cancel();
+            Timer.schedule(searchTask, SEARCH_DELAY);
+        });
 
         row();
         Table table = new Table();
         table.setBackground(skin.getDrawable("button-outline-up-10"));
         add(table).grow().spaceTop(20);
 
-        //scrollable area includes all the third party libraries
+        //scrollable area includes all the third party libraries; only the rows on screen have actors
         table.row();
-        scrollTable = new Table();
-        scrollTable.top();
-        scrollTable.defaults().space(10).top();
-        ScrollPane scrollPane = new ScrollPane(scrollTable, skin);
+        libraryList = new VirtualList<>(new VirtualList.RowAdapter<LibraryCatalog.Entry, EntryRow>() {
+            @Override
+            public EntryRow create() {
+                return new EntryRow();
+            }
+
+            @Override
+            public void bind(EntryRow row, LibraryCatalog.Entry entry) {
+                row.bind(entry);
+            }
+        }, 50);
+        libraryList.setSpacing(10);
+        ScrollPane scrollPane = new ScrollPane(libraryList, skin);
         scrollPane.setFlickScroll(false);
         scrollPane.setFadeScrollBars(false);
+        scrollPane.setScrollingDisabled(true, false);
         table.add(scrollPane).grow();
         addScrollFocusListener(scrollPane);
 
-        //third party extensions
-        for (Library lib : Listing.unofficialLibraries) {
-            addThirdParty(lib.getId());
-        }
-        searchEntries.sort((a, b) -> NaturalTextComparator.CASE_INSENSITIVE.compare(a.name.replaceFirst("(?i)gdx([ -]?)", ""), b.name.replaceFirst("(?i)gdx([ -]?)", "")));
+        //the search index lists third party extensions ordered by name, or by relevance for a search
+        searchTask = new Timer.Task() {
+            @Override
+            public void run() {
+                populateScrollTable(textField.getText());
+            }
+        };
 
         //selected filter checkbox
         row();
@@ -75,7 +93,10 @@ public class ThirdPartyPanel extends Table implements Panel {
         add(filterCheckBox).left().spaceTop(SPACE_SMALL);
         addHandListener(filterCheckBox);
         updateFilterCheckBox();
-        onChange(filterCheckBox, () -> populateScrollTable(textField.getText()));
+        onChange(filterCheckBox, () -> {
+            searchTask.cancel();
+            populateScrollTable(textField.getText());
+        });
 
         populateScrollTable(null);
 
@@ -99,99 +120,77 @@ public class ThirdPartyPanel extends Table implements Panel {
         onChange(textButton, () -> Gdx.net.openURI(prop.getProperty("issues")));
     }
 
-    private SearchEntry addThirdParty(String name) {
-        return addThirdParty(name, prop.getProperty(name, name), prop.getProperty(name + "Tip", "Unknown third-party extension."), prop.getProperty(name + "Url", ""), prop.getProperty(name + "Terms", "unknown"));
-    }
-
-    /**
-     * Convenience method to add a third party library to the searchEntries list
-     *
-     * @param name        The name of the library
-     * @param description A short description of the library
-     * @param link        The URL pointing to the library's home page
-     * @param keywords    Search terms to be implemented in the search TextField; the library name is already included with
-     *                    the keywords
-     * @return The data object containing the details of the third-party library
-     */
-    private SearchEntry addThirdParty(String id, String name, String description, String link, String keywords) {
-        SearchEntry searchEntry = new SearchEntry(id, name, description, link, keywords);
-        searchEntries.add(searchEntry);
-        return searchEntry;
-    }
-
     /**
-     * Clears the table and adds each SearchEntry containing the search string as a checkbox with an associated
-     * description and link
+     * Shows each library matching the search as a checkbox with an associated description and link, most relevant
+     * first. Only the list of matching entries is rebuilt; row actors are reused by the {@link VirtualList}.
      *
      * @param search
      */
     private void populateScrollTable(String search) {
         boolean showOnlySelected = filterCheckBox.isChecked();
-        if (search != null) search = search.toLowerCase(Locale.ROOT).replaceAll("\\W", "");
-        scrollTable.clearChildren();
+        filteredEntries.clear();
 
-        for (SearchEntry searchEntry : searchEntries) {
-            if (showOnlySelected && !UserData.thirdPartyLibs.contains(searchEntry.id)) continue;
+        for (LibraryCatalog.Entry entry : Listing.unofficialCatalog.getSearchIndex().search(search)) {
+            if (showOnlySelected && !UserData.thirdPartyLibs.contains(entry.id)) continue;
+            filteredEntries.add(entry);
+        }
+        libraryList.setItems(filteredEntries);
+    }
 
-            if (search != null && !search.isEmpty() &&
-                !searchEntry.name.toLowerCase(Locale.ROOT).contains(search) &&
-                !searchEntry.keywords.toLowerCase(Locale.ROOT).contains(search)) continue;
+    private void updateFilterCheckBox() {
+        filterCheckBox.setText(String.format("Show only selected (%d of %d)", UserData.thirdPartyLibs.size(), Listing.unofficialCatalog.size()));
+    }
+
+    public void captureKeyboardFocus() {
+        stage.setKeyboardFocus(keyboardFocus);
+    }
+
+    /**
+     * One row of the library list: a checkbox with the name, the description and a link button. Rows are pooled and
+     * bound to whichever entry they currently show, so their listeners always act on {@link #entry}.
+     */
+    private class EntryRow extends Table {
+        private final CheckBox checkBox;
+        private final Label label;
+        private LibraryCatalog.Entry entry;
+
+        EntryRow() {
+            defaults().space(10).top();
 
             //entry checkbox
-            scrollTable.row();
-            CheckBox checkBox = new CheckBox(searchEntry.name, skin);
-            checkBox.setChecked(UserData.thirdPartyLibs.contains(searchEntry.id));
+            checkBox = new CheckBox("", skin);
+            checkBox.setProgrammaticChangeEvents(false);
             checkBox.getLabel().setWrap(true);
-            checkBox.getLabelCell().growX().maxWidth(200);
-            scrollTable.add(checkBox).left().growX();
+            checkBox.getLabelCell().growX();
+            add(checkBox).left().width(checkBox.getPrefWidth() + 200);
             onChange(checkBox, () -> {
-                if (checkBox.isChecked() && !UserData.thirdPartyLibs.contains(searchEntry.id))
-                    UserData.thirdPartyLibs.add(searchEntry.id);
-                else UserData.thirdPartyLibs.remove(searchEntry.id);
+                if (checkBox.isChecked() && !UserData.thirdPartyLibs.contains(entry.id))
+                    UserData.thirdPartyLibs.add(entry.id);
+                else UserData.thirdPartyLibs.remove(entry.id);
                 pref.putString("ThirdParty", String.join(",", UserData.thirdPartyLibs));
-                flushPref();
+                flushPrefLater();
                 updateFilterCheckBox();
             });
             addHandListener(checkBox);
 
             //entry label
-            Label label = new Label(searchEntry.description, skin, "description");
+            label = new Label("", skin, "description");
             label.setWrap(true);
-            scrollTable.add(label).growX().align(Align.left);
+            add(label).growX().align(Align.left);
             addLabelHighlight(checkBox, label);
 
             //entry link button
             Button button = new Button(skin, "external-link");
-            scrollTable.add(button).padRight(SPACE_SMALL);
+            add(button).padRight(SPACE_SMALL);
             addHandListener(button);
-            onChange(button, () -> Gdx.net.openURI(searchEntry.link));
+            onChange(button, () -> Gdx.net.openURI(entry.url));
         }
-    }
 
-    private void updateFilterCheckBox() {
-        filterCheckBox.setText(String.format("Show only selected (%d of %d)", UserData.thirdPartyLibs.size(), Listing.unofficialLibraries.size()));
-    }
-
-    public void captureKeyboardFocus() {
-        stage.setKeyboardFocus(keyboardFocus);
-    }
-
-    /**
-     * A data class to store the information for a third-party library
-     */
-    private static class SearchEntry {
-        String id;
-        String name;
-        String description;
-        String link;
-        String keywords;
-
-        public SearchEntry(String id, String name, String description, String link, String keywords) {
-            this.id = id;
-            this.name = name;
-            this.description = description;
-            this.link = link;
-            this.keywords = keywords;
+        void bind(LibraryCatalog.Entry entry) {
+            this.entry = entry;
+            checkBox.setText(entry.name);
+            checkBox.setChecked(UserData.thirdPartyLibs.contains(entry.id));
+            label.setText(entry.description);
         }
     }
 }
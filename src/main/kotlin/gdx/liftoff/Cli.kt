@@ -0,0 +1,315 @@
+@file:JvmName("Cli")
+
+package gdx.liftoff
+
+import com.badlogic.gdx.Gdx
+import com.badlogic.gdx.Version
+import com.badlogic.gdx.backends.lwjgl3.Lwjgl3Files
+import com.badlogic.gdx.files.FileHandle
+import com.badlogic.gdx.utils.GdxNativesLoader
+import com.badlogic.gdx.utils.GdxRuntimeException
+import com.badlogic.gdx.utils.JsonReader
+import com.badlogic.gdx.utils.JsonValue
+import gdx.liftoff.data.files.DiskSink
+import gdx.liftoff.data.languages.Java
+import gdx.liftoff.data.languages.Language
+import gdx.liftoff.data.libraries.Library
+import gdx.liftoff.data.libraries.VersionCache
+import gdx.liftoff.data.platforms.Core
+import gdx.liftoff.data.platforms.Lwjgl3
+import gdx.liftoff.data.platforms.Platform
+import gdx.liftoff.data.project.AdvancedProjectData
+import gdx.liftoff.data.project.BasicProjectData
+import gdx.liftoff.data.project.BuildProfile
+import gdx.liftoff.data.project.ExtensionsData
+import gdx.liftoff.data.project.GenerationEvent
+import gdx.liftoff.data.project.GenerationListener
+import gdx.liftoff.data.project.GenerationMonitor
+import gdx.liftoff.data.project.GradleRunner
+import gdx.liftoff.data.project.LanguagesData
+import gdx.liftoff.data.project.Project
+import gdx.liftoff.data.project.ProjectLogger
+import gdx.liftoff.ui.UserData
+import java.io.File
+import java.util.Properties
+import kotlin.system.exitProcess
+
+/**
+ * Everything needed to generate one project without the GUI. Read from a JSON object or a properties file, where
+ * every list can also be given as a comma-separated String. Only [name], [rootPackage] and either [destination] or
+ * [archive] are required. If [archive] is set, the project is streamed into that zip file instead of a folder.
+ *
+ * Recognized keys: `name`, `package`, `mainClass`, `destination`, `androidSdk`, `platforms`, `languages` (each either
+ * `id` or `id:version`), `extensions` (official and third-party IDs can be mixed), `template`, `gdxVersion`,
+ * `javaVersion`, `projectVersion`, `gwtPluginVersion`, `generateSkin`, `generateReadme`, `generateEditorConfig`,
+ * `indentSize`, `buildProfile`, `gradleTasks`, `runGradleTasks`, `gradleDaemon`, `offline`, `fetchLatestVersions`,
+ * `manifest`, `overwriteEdited` and `archive`.
+ *
+ * [buildProfile] is the name of a [BuildProfile], such as `BALANCED`, and sets up the generated gradle.properties.
+ *
+ * If [gradleDaemon] is true, Gradle tasks run with `--daemon`, so a batch of projects reuses one warm daemon instead
+ * of starting Gradle again for each project; see [GradleRunner].
+ *
+ * If [fetchLatestVersions] is true, extensions use the latest versions found in their repositories, through the
+ * [VersionCache], instead of the versions this Liftoff release was tested with. With [offline], only cached versions
+ * are used.
+ *
+ * If [manifest] is true, a [DiskSink.MANIFEST_FILE] with the hash of every generated file is written, and regenerating
+ * into the same folder keeps files edited since, unless [overwriteEdited] is true. Both are off by default.
+ */
+data class ProjectSpec(
+  val name: String,
+  val rootPackage: String,
+  val mainClass: String = "Main",
+  val destination: File,
+  val androidSdk: File = File("."),
+  val platforms: List<String> = listOf(Core.ID, Lwjgl3.ID),
+  val languages: List<String> = emptyList(),
+  val extensions: List<String> = emptyList(),
+  val template: String = "classic",
+  val gdxVersion: String = Version.VERSION,
+  val javaVersion: String = Java.version,
+  val projectVersion: String = "1.0.0",
+  val gwtPluginVersion: String = "2.2.7",
+  val generateSkin: Boolean = false,
+  val generateReadme: Boolean = true,
+  val generateEditorConfig: Boolean = true,
+  val indentSize: Int = 4,
+  val buildProfile: BuildProfile = BuildProfile.MINIMAL_RAM,
+  val gradleTasks: List<String> = emptyList(),
+  val runGradleTasks: Boolean = false,
+  val gradleDaemon: Boolean = false,
+  val offline: Boolean = false,
+  val fetchLatestVersions: Boolean = false,
+  val manifest: Boolean = false,
+  val overwriteEdited: Boolean = false,
+  val archive: File? = null,
+) {
+  /** Maps this spec onto the data classes used by [Project]. Unknown IDs fail fast with a [GdxRuntimeException]. */
+  fun toProject(): Project {
+    val platformMap: LinkedHashMap<String, Platform> = LinkedHashMap(platforms.size + 1)
+    // Every project needs the core module, so it is added even if the spec forgets it.
+    (listOf(Core.ID) + platforms).forEach { id ->
+      platformMap[id] = Listing.platformsByName[id] ?: throw GdxRuntimeException("Unknown platform: $id")
+    }
+    val languageList: MutableList<Language> = mutableListOf()
+    val languageVersions: MutableMap<String, String> = LinkedHashMap()
+    languages.forEach { entry ->
+      val id = entry.substringBefore(':').trim()
+      val language =
+        Listing.languages.firstOrNull { it.id == id } ?: throw GdxRuntimeException("Unknown language: $id")
+      languageList.add(language)
+      languageVersions[id] = if (':' in entry) entry.substringAfter(':').trim() else language.version
+    }
+    val official: MutableList<Library> = mutableListOf()
+    val thirdParty: MutableList<Library> = mutableListOf()
+    extensions.forEach { id ->
+      Listing.officialByName[id]?.let { official.add(it) }
+        ?: Listing.getUnofficialLibrary(id)?.let { thirdParty.add(it) }
+        ?: throw GdxRuntimeException("Unknown extension: $id")
+    }
+    val chosenTemplate = Listing.templatesByName[template] ?: throw GdxRuntimeException("Unknown template: $template")
+
+    return Project(
+      basic =
+        BasicProjectData(
+          name = name,
+          rootPackage = rootPackage,
+          mainClass = mainClass,
+          destination = FileHandle(destination),
+          androidSdk = FileHandle(androidSdk),
+        ),
+      platforms = platformMap,
+      advanced =
+        AdvancedProjectData(
+          version = projectVersion,
+          gdxVersion = gdxVersion,
+          javaVersion = javaVersion,
+          gwtPluginVersion = gwtPluginVersion,
+          serverJavaVersion = javaVersion,
+          desktopJavaVersion = javaVersion,
+          generateSkin = generateSkin,
+          generateReadme = generateReadme,
+          gradleTasks = gradleTasks.toMutableList(),
+          generateEditorConfig = generateEditorConfig,
+          indentSize = indentSize,
+          buildProfile = buildProfile,
+        ),
+      languages = LanguagesData(languageList, languageVersions),
+      extensions = ExtensionsData(official, thirdParty),
+      template = chosenTemplate,
+    ).apply { gradleRunner = GradleRunner(useDaemon = gradleDaemon) }
+  }
+
+  companion object {
+    /** Reads every spec in [file]: a JSON object, a JSON array of objects, or a properties file. */
+    fun read(file: File): List<ProjectSpec> {
+      val base = file.absoluteFile.parentFile
+      return if (file.name.endsWith(".properties")) {
+        val properties = Properties()
+        file.reader(Charsets.UTF_8).use { properties.load(it) }
+        listOf(fromValues(base) { key -> properties.getProperty(key)?.let { value -> splitList(value) } })
+      } else {
+        val root = JsonReader().parse(FileHandle(file))
+        if (root.isArray) root.map { fromJson(it, base) } else listOf(fromJson(root, base))
+      }
+    }
+
+    private fun fromJson(
+      json: JsonValue,
+      base: File,
+    ): ProjectSpec =
+      fromValues(base) { key ->
+        val value = json.get(key)
+        when {
+          value == null || value.isNull -> null
+          value.isArray -> value.map { it.asString() }
+          else -> splitList(value.asString())
+        }
+      }
+
+    /** [values] returns the list stored under a key, or null if the key is absent; scalars are one-element lists. */
+    private fun fromValues(
+      base: File,
+      values: (String) -> List<String>?,
+    ): ProjectSpec {
+      fun string(key: String): String? = values(key)?.joinToString(separator = ",")
+
+      fun required(key: String): String = string(key) ?: throw GdxRuntimeException("Missing required key: $key")
+
+      fun file(key: String): File? = string(key)?.let { File(it).let { f -> if (f.isAbsolute) f else File(base, it) } }
+
+      val defaults = ProjectSpec(name = "", rootPackage = "", destination = base)
+      val archive = file("archive")
+      return ProjectSpec(
+        name = required("name"),
+        rootPackage = required("package"),
+        mainClass = string("mainClass") ?: defaults.mainClass,
+        destination =
+          file("destination") ?: archive?.let { File(base, required("name")) }
+            ?: throw GdxRuntimeException("Missing required key: destination"),
+        androidSdk = file("androidSdk") ?: defaults.androidSdk,
+        platforms = values("platforms") ?: defaults.platforms,
+        languages = values("languages") ?: defaults.languages,
+        extensions = values("extensions") ?: defaults.extensions,
+        template = string("template") ?: defaults.template,
+        gdxVersion = string("gdxVersion") ?: defaults.gdxVersion,
+        javaVersion = string("javaVersion") ?: defaults.javaVersion,
+        projectVersion = string("projectVersion") ?: defaults.projectVersion,
+        gwtPluginVersion = string("gwtPluginVersion") ?: defaults.gwtPluginVersion,
+        generateSkin = string("generateSkin")?.toBoolean() ?: defaults.generateSkin,
+        generateReadme = string("generateReadme")?.toBoolean() ?: defaults.generateReadme,
+        generateEditorConfig = string("generateEditorConfig")?.toBoolean() ?: defaults.generateEditorConfig,
+        indentSize = string("indentSize")?.toIntOrNull() ?: defaults.indentSize,
+        buildProfile =
+          string("buildProfile")?.let { name ->
+            BuildProfile.entries.find { it.name.equals(name, ignoreCase = true) } ?: throw GdxRuntimeException("Unknown build profile: $name")
+          } ?: defaults.buildProfile,
+        gradleTasks = values("gradleTasks")?.flatMap { it.split(Regex("\\s+")) }?.filter { it.isNotEmpty() } ?: defaults.gradleTasks,
+        runGradleTasks = string("runGradleTasks")?.toBoolean() ?: defaults.runGradleTasks,
+        gradleDaemon = string("gradleDaemon")?.toBoolean() ?: defaults.gradleDaemon,
+        offline = string("offline")?.toBoolean() ?: defaults.offline,
+        fetchLatestVersions = string("fetchLatestVersions")?.toBoolean() ?: defaults.fetchLatestVersions,
+        manifest = string("manifest")?.toBoolean() ?: defaults.manifest,
+        overwriteEdited = string("overwriteEdited")?.toBoolean() ?: defaults.overwriteEdited,
+        archive = archive,
+      )
+    }
+
+    private fun splitList(value: String): List<String> = value.split(',').map(String::trim).filter(String::isNotEmpty)
+  }
+}
+
+/**
+ * Headless project generator. Never creates a window or GL context, so it can run on CI machines.
+ *
+ * Usage: `Cli [--batch list.txt] spec.json [spec.properties ...]`
+ *
+ * Each spec file holds one project, or a JSON array of projects. Projects generated into a folder that is not empty
+ * are regenerated incrementally, see [Project.regenerate]. A batch list file names one spec file per line, with
+ * blank lines and lines starting with `#` ignored. All projects are generated in this one JVM, one after another.
+ */
+fun main(arguments: Array<String>) {
+  if (arguments.isEmpty()) {
+    System.err.println("Usage: Cli [--batch list.txt] spec.json [spec.properties ...]")
+    exitProcess(2)
+  }
+  GdxNativesLoader.load()
+  Gdx.files = Lwjgl3Files()
+  UserData.languages = LinkedHashSet<String>()
+  UserData.languageVersions = LinkedHashMap<String, String>()
+
+  val specFiles: MutableList<File> = mutableListOf()
+  var index = 0
+  while (index < arguments.size) {
+    val argument = arguments[index++]
+    if (argument == "--batch" && index < arguments.size) {
+      val list = File(arguments[index++])
+      list.readLines(Charsets.UTF_8).map(String::trim).filter { it.isNotEmpty() && !it.startsWith("#") }.forEach {
+        specFiles.add(File(it).let { f -> if (f.isAbsolute) f else File(list.absoluteFile.parentFile, it) })
+      }
+    } else {
+      specFiles.add(File(argument))
+    }
+  }
+
+  var failures = 0
+  specFiles.forEach { specFile ->
+    val specs =
+      try {
+        ProjectSpec.read(specFile)
+      } catch (exception: Exception) {
+        System.err.println("Unable to read ${specFile.path}: ${exception.message}")
+        failures++
+        return@forEach
+      }
+    specs.forEach { spec ->
+      val start = System.nanoTime()
+      val monitor = GenerationMonitor(ConsoleProgress)
+      try {
+        VersionCache.offline = spec.offline
+        VersionCache.fetchLatestVersions = spec.fetchLatestVersions
+        val project = spec.toProject()
+        if (spec.archive != null) {
+          spec.archive.absoluteFile.parentFile?.mkdirs()
+          project.generateArchive(spec.archive.outputStream().buffered(), ConsoleLogger, monitor)
+        } else if (spec.destination.list()?.isNotEmpty() == true) {
+          project.regenerate(
+            ConsoleLogger,
+            executeGradleTasks = spec.runGradleTasks,
+            monitor = monitor,
+            useManifest = spec.manifest,
+            overwriteEdited = spec.overwriteEdited,
+          )
+        } else {
+          // The manifest written when the sink closes lets a later regeneration keep files edited since.
+          DiskSink(project.basic.destination, writeManifest = spec.manifest).use { sink ->
+            project.generate(sink, monitor)
+            project.includeGradleWrapper(ConsoleLogger, executeGradleTasks = spec.runGradleTasks, sink = sink, monitor = monitor)
+          }
+        }
+        val output = spec.archive ?: spec.destination
+        println("Generated ${spec.name} in ${(System.nanoTime() - start) / 1_000_000} ms: ${output.path}")
+        println("Stages: ${monitor.summary()}")
+      } catch (exception: Exception) {
+        System.err.println("Unable to generate ${spec.name}: ${exception.message}")
+        failures++
+      }
+    }
+  }
+  exitProcess(if (failures == 0) 0 else 1)
+}
+
+/** Prints each finished generation stage with its counts, size and time; progress within a stage is not printed. */
+object ConsoleProgress : GenerationListener {
+  override fun onEvent(event: GenerationEvent) {
+    if (event.kind == GenerationEvent.Kind.FINISHED) println("  $event")
+  }
+}
+
+/** Logger for the headless generator; bundle lines are printed as-is, since the UI bundle is not loaded. */
+object ConsoleLogger : ProjectLogger {
+  override fun log(message: String) = println(message)
+
+  override fun logNls(bundleLine: String) = println(bundleLine)
+}
@@ -76,7 +76,7 @@ enum class Preset {
     override val platforms: List<Platform> = listOf(Core(), Lwjgl3(), Android(), IOS())
     override val languages: List<Language> = listOf(Kotlin)
     override val officialExtensions: Optional<List<Library>> = Optional.empty()
-    override val thirdPartyExtensions: List<Library> = Listing.unofficialLibraries.filter { library -> !library.official && library.repository == KtxRepository }
+    override val thirdPartyExtensions: List<Library> = Listing.unofficialCatalog.libraries.filter { library -> !library.official && library.repository == KtxRepository }
     override val template: Template = KtxTemplate()
     override val addSkin: Boolean = false
   },
@@ -88,7 +88,7 @@ enum class Preset {
     override val platforms: List<Platform> = listOf(Core(), Lwjgl3(), Android(), TeaVM())
     override val languages: List<Language> = listOf(Kotlin)
     override val officialExtensions: Optional<List<Library>> = Optional.empty()
-    override val thirdPartyExtensions: List<Library> = Listing.unofficialLibraries.filter { library: Library ->
+    override val thirdPartyExtensions: List<Library> = Listing.unofficialCatalog.libraries.filter { library: Library ->
       !library.official &&
         library.repository == KtxRepository &&
         !library.id.endsWith("Async") &&
@@ -165,12 +165,19 @@ fun main(arguments: Array<String>) {
   UserData.languages = LinkedHashSet<String>()
   UserData.languageVersions = LinkedHashMap<String, String>()
   val preset: Preset = getPreset(arguments.firstOrNull())
-  val officialExtensions: Optional<List<Library>> = Optional.empty()
+  val project = preset.createProject(FileHandle(File("build/dist/sample")))
+  project.generate()
+  project.includeGradleWrapper(NullLogger, executeGradleTasks = false)
+  exitProcess(0)
+}
+
+/** Creates a [Project] using this preset's settings, which will be generated into [destination]. */
+fun Preset.createProject(destination: FileHandle): Project {
   val basicData = BasicProjectData(
-    name = preset.projectName,
-    rootPackage = preset.rootPackage,
+    name = projectName,
+    rootPackage = rootPackage,
     mainClass = "Main",
-    destination = FileHandle(File("build/dist/sample")),
+    destination = destination,
     androidSdk = FileHandle(File("."))
   )
   val defaultJavaVersion: String = Java.version
@@ -182,26 +189,23 @@ fun main(arguments: Array<String>) {
     gwtPluginVersion = defaultGwtVersion,
     serverJavaVersion = defaultJavaVersion,
     desktopJavaVersion = defaultJavaVersion,
-    generateSkin = preset.addSkin,
+    generateSkin = addSkin,
     generateReadme = true,
     gradleTasks = mutableListOf()
   )
   val extensions = ExtensionsData(
-    officialExtensions = preset.officialExtensions.orElse(emptyList()),
-    thirdPartyExtensions = preset.thirdPartyExtensions
+    officialExtensions = officialExtensions.orElse(emptyList()),
+    thirdPartyExtensions = thirdPartyExtensions
   )
 
-  val project = Project(
+  return Project(
     basic = basicData,
     advanced = advancedData,
-    platforms = preset.platforms.associateBy(Platform::id),
-    languages = preset.languagesData,
+    platforms = platforms.associateBy(Platform::id),
+    languages = languagesData,
     extensions = extensions,
-    template = preset.template
+    template = template
   )
-  project.generate()
-  project.includeGradleWrapper(NullLogger, executeGradleTasks = false)
-  exitProcess(0)
 }
 
 /** No-op logger for interfacing with the project generator. */
@@ -0,0 +1,121 @@
+package gdx.liftoff.data.files
+
+import com.badlogic.gdx.files.FileHandle
+import java.io.File
+import java.util.concurrent.atomic.AtomicInteger
+
+/**
+ * Writes project files into a folder that may already contain a previous generation, rewriting only files whose
+ * content actually changed. Existing files are first compared by size, then by a SHA-256 hash of their content;
+ * identical files are left untouched, so IDE indexes and Gradle up-to-date checks are not disturbed.
+ *
+ * If [useManifest] is true, the hash of every generated file is stored in [DiskSink.MANIFEST_FILE] in the project
+ * root when the sink is closed; a [DiskSink] with `writeManifest` enabled writes the same manifest on the first
+ * generation. On later runs, a file whose current hash no longer matches the manifest was edited by the user since it
+ * was generated, and it is kept as-is instead of being overwritten, unless [overwriteEdited] is true. The sink must be
+ * closed to save the manifest. Without [useManifest], every file with different content is overwritten, and a
+ * manifest left by an earlier generation is deleted on close, since it would no longer describe the files.
+ */
+class IncrementalSink(
+  root: FileHandle,
+  private val useManifest: Boolean = false,
+  overwriteEdited: Boolean = false,
+) : DiskSink(root, useManifest) {
+  private val previousHashes: Map<String, String> =
+    if (useManifest && !overwriteEdited) readManifest(root.child(MANIFEST_FILE).file()) else emptyMap()
+
+  private val addedCount = AtomicInteger()
+  private val changedCount = AtomicInteger()
+  private val unchangedCount = AtomicInteger()
+  private val keptCount = AtomicInteger()
+
+  /** Files that did not exist before and were written. */
+  val added: Int
+    get() = addedCount.get()
+
+  /** Existing files that were overwritten with new content. */
+  val changed: Int
+    get() = changedCount.get()
+
+  /** Existing files that already had the generated content and were skipped. */
+  val unchanged: Int
+    get() = unchangedCount.get()
+
+  /** Existing files that were edited since the last generation, according to the manifest, and were kept. */
+  val kept: Int
+    get() = keptCount.get()
+
+  override fun write(
+    path: String,
+    bytes: ByteArray,
+    executable: Boolean,
+  ) = writeIfChanged(path, hash(bytes), bytes.size.toLong(), executable) { writeFile(path, bytes, executable) }
+
+  /** Hashes the original while streaming it, so large assets are never read into memory as a whole. */
+  override fun copy(
+    path: String,
+    original: FileHandle,
+    executable: Boolean,
+  ) {
+    val digest = newDigest()
+    val size = original.read().use { update(digest, it) }
+    writeIfChanged(path, hex(digest.digest()), size, executable) { copyFile(path, original, executable) }
+  }
+
+  /** Compares the existing file at [path] with the generated content, calling [writeContent] if it must be written. */
+  private fun writeIfChanged(
+    path: String,
+    generatedHash: String,
+    size: Long,
+    executable: Boolean,
+    writeContent: () -> Unit,
+  ) {
+    val normalized = normalizePath(path)
+    val file = root.child(path).file()
+    if (!file.isFile) {
+      writeContent()
+      addedCount.incrementAndGet()
+    } else {
+      // Hashing the existing file is only needed when sizes match or the manifest has to be checked.
+      val previous = previousHashes[normalized]
+      val existingHash = if (file.length() == size || previous != null) hash(file) else null
+      when {
+        existingHash == generatedHash -> {
+          if (executable && !file.canExecute()) file.setExecutable(true)
+          unchangedCount.incrementAndGet()
+        }
+        previous != null && existingHash != previous -> {
+          keptCount.incrementAndGet()
+          // Still remembered as generated with the old content, so later runs keep treating the file as edited.
+          hashes[normalized] = previous
+          return
+        }
+        else -> {
+          writeContent()
+          changedCount.incrementAndGet()
+        }
+      }
+    }
+    hashes[normalized] = generatedHash
+  }
+
+  override fun close() {
+    if (!useManifest) root.child(MANIFEST_FILE).file().delete()
+    super.close()
+  }
+
+  /** Summary of the counts, such as "12 added, 3 changed, 40 unchanged, 1 kept". */
+  override fun toString(): String = "$added added, $changed changed, $unchanged unchanged, $kept kept"
+
+  private companion object {
+    fun readManifest(file: File): Map<String, String> {
+      if (!file.isFile) return emptyMap()
+      val hashes: MutableMap<String, String> = HashMap()
+      file.readLines(Charsets.UTF_8).forEach { line ->
+        val separator = line.indexOf("  ")
+        if (separator > 0) hashes[line.substring(separator + 2)] = line.substring(0, separator)
+      }
+      return hashes
+    }
+  }
+}
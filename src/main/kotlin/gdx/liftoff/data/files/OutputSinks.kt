@@ -0,0 +1,313 @@
+package gdx.liftoff.data.files
+
+import com.badlogic.gdx.files.FileHandle
+import org.apache.commons.compress.archivers.zip.ZipArchiveEntry
+import org.apache.commons.compress.archivers.zip.ZipArchiveOutputStream
+import java.io.Closeable
+import java.io.File
+import java.io.InputStream
+import java.io.OutputStream
+import java.security.DigestInputStream
+import java.security.MessageDigest
+import java.util.SortedMap
+import java.util.TreeMap
+import java.util.concurrent.ConcurrentHashMap
+
+/**
+ * Destination of generated project files. Paths are always relative to the project root and may use either
+ * [File.separatorChar] or '/' as separators.
+ */
+interface OutputSink : Closeable {
+  /** True if files can be written from several threads at once. */
+  val supportsParallelWrites: Boolean
+
+  /** Creates an (empty) directory. Directories of written files do not need to be created first. */
+  fun createDirectory(path: String)
+
+  /**
+   * Writes [bytes] as the file at [path], replacing any previous content.
+   * @param executable if true, the file should be marked as executable where the sink supports it.
+   */
+  fun write(
+    path: String,
+    bytes: ByteArray,
+    executable: Boolean = false,
+  )
+
+  /** Writes [content] encoded as UTF-8. */
+  fun write(
+    path: String,
+    content: String,
+    executable: Boolean = false,
+  ) = write(path, content.toByteArray(Charsets.UTF_8), executable)
+
+  /** Copies the [original] file or resource to [path]. */
+  fun copy(
+    path: String,
+    original: FileHandle,
+    executable: Boolean = false,
+  ) = write(path, original.readBytes(), executable)
+
+  /** Finishes writing. Does nothing by default. */
+  override fun close() = Unit
+}
+
+/** Converts a project-relative path to the '/'-separated form used inside archives and [MemorySink]. */
+fun normalizePath(path: String): String = path.replace(File.separatorChar, '/').trim('/')
+
+/**
+ * Writes project files to a directory on disk. This is what the GUI uses for empty folders.
+ *
+ * If [writeManifest] is true, the SHA-256 hash of every written file is stored in [MANIFEST_FILE] in the project
+ * root when the sink is closed. An [IncrementalSink] regenerating the project later uses it to tell which files the
+ * user edited since. The sink must be closed to save the manifest.
+ * @see IncrementalSink
+ */
+open class DiskSink
+  @JvmOverloads
+  constructor(
+    val root: FileHandle,
+    val writeManifest: Boolean = false,
+  ) : OutputSink {
+    override val supportsParallelWrites = true
+
+    /** Hash of each file written so far, by normalized path; only filled if [writeManifest] is true. */
+    protected val hashes: MutableMap<String, String> = ConcurrentHashMap(256)
+
+    override fun createDirectory(path: String) {
+      root.child(path).mkdirs()
+    }
+
+    override fun write(
+      path: String,
+      bytes: ByteArray,
+      executable: Boolean,
+    ) {
+      writeFile(path, bytes, executable)
+      if (writeManifest) hashes[normalizePath(path)] = hash(bytes)
+    }
+
+    override fun copy(
+      path: String,
+      original: FileHandle,
+      executable: Boolean,
+    ) {
+      if (!writeManifest) return copyFile(path, original, executable)
+      // Hashed while it is streamed to disk, so large assets are never held in memory as a whole.
+      val digest = newDigest()
+      copyFile(path, original, executable, digest)
+      hashes[normalizePath(path)] = hex(digest.digest())
+    }
+
+    /** Writes the file without recording it in the manifest. */
+    protected fun writeFile(
+      path: String,
+      bytes: ByteArray,
+      executable: Boolean,
+    ) {
+      val file = root.child(path)
+      file.writeBytes(bytes, false)
+      if (executable) file.file().setExecutable(true)
+    }
+
+    /** Copies the file without recording it in the manifest, feeding its content to [digest] if one is given. */
+    protected fun copyFile(
+      path: String,
+      original: FileHandle,
+      executable: Boolean,
+      digest: MessageDigest? = null,
+    ) {
+      val file = root.child(path)
+      if (digest == null) {
+        original.copyTo(file)
+      } else {
+        DigestInputStream(original.read(), digest).use { input -> file.write(false).use { input.copyTo(it) } }
+      }
+      if (executable) file.file().setExecutable(true)
+    }
+
+    /** Saves the manifest, if enabled. */
+    override fun close() {
+      if (!writeManifest) return
+      val manifestFile = root.child(MANIFEST_FILE).file()
+      manifestFile.parentFile?.mkdirs()
+      manifestFile.writeText(
+        hashes.toSortedMap().entries.joinToString(separator = "\n", postfix = "\n") { (path, hash) -> "$hash  $path" },
+        Charsets.UTF_8,
+      )
+    }
+
+    companion object {
+      /** Manifest of generated file hashes, relative to the project root. Uses the `sha256sum` line format. */
+      const val MANIFEST_FILE = ".liftoff-manifest"
+
+      /** Hex-encoded SHA-256 hash of [bytes], as stored in the manifest. */
+      fun hash(bytes: ByteArray): String = hex(newDigest().digest(bytes))
+
+      /** Hex-encoded SHA-256 hash of the content of [file], which is read in chunks rather than all at once. */
+      fun hash(file: File): String {
+        val digest = newDigest()
+        file.inputStream().use { update(digest, it) }
+        return hex(digest.digest())
+      }
+
+      internal fun newDigest(): MessageDigest = MessageDigest.getInstance("SHA-256")
+
+      /** Feeds the rest of [input] to [digest], without closing it. Returns the number of bytes read. */
+      internal fun update(
+        digest: MessageDigest,
+        input: InputStream,
+      ): Long {
+        val buffer = ByteArray(DEFAULT_BUFFER_SIZE)
+        var total = 0L
+        while (true) {
+          val read = input.read(buffer)
+          if (read < 0) return total
+          digest.update(buffer, 0, read)
+          total += read
+        }
+      }
+
+      internal fun hex(hash: ByteArray): String = hash.joinToString(separator = "") { "%02x".format(it) }
+    }
+  }
+
+/**
+ * Keeps every generated file in memory, mapping '/'-separated paths to their content. Useful for previews, dry runs,
+ * diffing and tests, since nothing touches the file system.
+ */
+class MemorySink : OutputSink {
+  override val supportsParallelWrites = true
+
+  private val contents: MutableMap<String, ByteArray> = ConcurrentHashMap(256)
+  private val directorySet: MutableSet<String> = ConcurrentHashMap.newKeySet()
+  private val executableSet: MutableSet<String> = ConcurrentHashMap.newKeySet()
+
+  /** Every written file, sorted by path. */
+  val files: SortedMap<String, ByteArray>
+    get() = TreeMap(contents)
+
+  /** Every explicitly created directory, sorted. */
+  val directories: Set<String>
+    get() = directorySet.toSortedSet()
+
+  /** Paths of files that were marked as executable. */
+  val executables: Set<String>
+    get() = executableSet.toSortedSet()
+
+  /** Total size of all written files, in bytes. */
+  val size: Long
+    get() = contents.values.sumOf { it.size.toLong() }
+
+  operator fun get(path: String): ByteArray? = contents[normalizePath(path)]
+
+  fun getString(path: String): String? = get(path)?.toString(Charsets.UTF_8)
+
+  override fun createDirectory(path: String) {
+    directorySet.add(normalizePath(path))
+  }
+
+  override fun write(
+    path: String,
+    bytes: ByteArray,
+    executable: Boolean,
+  ) {
+    val normalized = normalizePath(path)
+    contents[normalized] = bytes
+    if (executable) executableSet.add(normalized) else executableSet.remove(normalized)
+  }
+
+  /** Removes everything written so far, so the sink can be reused. */
+  fun clear() {
+    contents.clear()
+    directorySet.clear()
+    executableSet.clear()
+  }
+}
+
+/**
+ * Streams project files into a zip (or jar) archive as they are generated, without an intermediate directory.
+ * Entries are written in the order files are saved; writes are serialized, since a zip stream is sequential.
+ * Copied files and resources are streamed straight from their source into the archive, never fully loaded in memory.
+ * Executable files (such as `gradlew`) keep their Unix permissions when extracted. The archive is only complete after
+ * [close], which also closes [output].
+ * @param prefix optional folder inside the archive that will contain the project, such as its name.
+ */
+class ZipSink(
+  output: OutputStream,
+  prefix: String = "",
+) : OutputSink {
+  override val supportsParallelWrites = false
+
+  private val zip = ZipArchiveOutputStream(output)
+  private val prefix: String = normalizePath(prefix).let { if (it.isEmpty()) "" else "$it/" }
+  private val writtenDirectories: MutableSet<String> = HashSet()
+
+  @Synchronized
+  override fun createDirectory(path: String) {
+    val normalized = normalizePath(path)
+    if (normalized.isNotEmpty()) addDirectories("$normalized/")
+  }
+
+  @Synchronized
+  override fun write(
+    path: String,
+    bytes: ByteArray,
+    executable: Boolean,
+  ) {
+    putEntry(path, executable)
+    zip.write(bytes)
+    zip.closeArchiveEntry()
+  }
+
+  @Synchronized
+  override fun copy(
+    path: String,
+    original: FileHandle,
+    executable: Boolean,
+  ) {
+    putEntry(path, executable)
+    original.read().use { it.copyTo(zip, COPY_BUFFER_SIZE) }
+    zip.closeArchiveEntry()
+  }
+
+  @Synchronized
+  override fun close() {
+    zip.close()
+  }
+
+  private fun putEntry(
+    path: String,
+    executable: Boolean,
+  ) {
+    val normalized = normalizePath(path)
+    addDirectories(normalized)
+    val entry = ZipArchiveEntry(prefix + normalized)
+    entry.unixMode = if (executable) EXECUTABLE_MODE else FILE_MODE
+    zip.putArchiveEntry(entry)
+  }
+
+  /** Adds an entry for every parent directory of [path] that has not been written yet. */
+  private fun addDirectories(path: String) {
+    var slash = path.indexOf('/')
+    while (slash >= 0) {
+      val directory = prefix + path.substring(0, slash + 1)
+      if (writtenDirectories.add(directory)) {
+        val entry = ZipArchiveEntry(directory)
+        entry.unixMode = DIRECTORY_MODE
+        zip.putArchiveEntry(entry)
+        zip.closeArchiveEntry()
+      }
+      slash = path.indexOf('/', slash + 1)
+    }
+  }
+
+  private companion object {
+    const val COPY_BUFFER_SIZE = 64 * 1024
+
+    // Octal 100644, 100755 and 40755: regular file, executable file and directory, with the type bits set.
+    const val FILE_MODE = 0x81A4
+    const val EXECUTABLE_MODE = 0x81ED
+    const val DIRECTORY_MODE = 0x41ED
+  }
+}
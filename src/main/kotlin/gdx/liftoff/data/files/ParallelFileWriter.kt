@@ -0,0 +1,97 @@
+package gdx.liftoff.data.files
+
+import com.badlogic.gdx.utils.GdxRuntimeException
+import java.io.File
+import java.util.concurrent.CancellationException
+import java.util.concurrent.ExecutorService
+import java.util.concurrent.Executors
+import java.util.concurrent.Future
+import java.util.concurrent.ThreadFactory
+import java.util.concurrent.atomic.AtomicInteger
+
+/**
+ * Saves [ProjectFile]s on a bounded pool of worker threads. Files are grouped by their target directory, so that each
+ * directory is created exactly once before any writes start; [SourceDirectory] entries are handled in that same pass.
+ * If any file fails to save, the remaining files are still written, and a single exception listing every failure is
+ * thrown once all writes are done. Failures are always reported in the order the files were given.
+ * Sinks that do not support parallel writes, such as [ZipSink], are written to from the calling thread only.
+ * If the sink throws a [CancellationException], that exception is thrown instead of a failure report.
+ */
+class ParallelFileWriter(
+  private val threads: Int = defaultThreadCount(),
+) {
+  fun save(
+    files: List<ProjectFile>,
+    sink: OutputSink,
+  ) {
+    createDirectories(files, sink)
+    val writes = files.filter { it !is SourceDirectory }
+    if (writes.isEmpty()) return
+    if (threads <= 1 || writes.size == 1 || !sink.supportsParallelWrites) {
+      reportFailures(writes.mapNotNull { file -> saveQuietly(file, sink)?.let { file to it } })
+      return
+    }
+    val executor: ExecutorService = Executors.newFixedThreadPool(minOf(threads, writes.size), WriterThreadFactory)
+    try {
+      val results: List<Pair<ProjectFile, Future<Throwable?>>> =
+        writes.map { file -> file to executor.submit<Throwable?> { saveQuietly(file, sink) } }
+      reportFailures(results.mapNotNull { (file, result) -> result.get()?.let { file to it } })
+    } finally {
+      executor.shutdownNow()
+    }
+  }
+
+  private fun createDirectories(
+    files: List<ProjectFile>,
+    sink: OutputSink,
+  ) {
+    val directories: MutableSet<String> = linkedSetOf()
+    files.forEach { file ->
+      if (file is SourceDirectory) {
+        directories.add(file.path)
+      } else {
+        File(file.path).parent?.let { directories.add(it) }
+      }
+    }
+    directories.forEach { sink.createDirectory(it) }
+  }
+
+  private fun saveQuietly(
+    file: ProjectFile,
+    sink: OutputSink,
+  ): Throwable? =
+    try {
+      file.save(sink)
+      null
+    } catch (exception: Exception) {
+      exception
+    }
+
+  private fun reportFailures(failures: List<Pair<ProjectFile, Throwable>>) {
+    if (failures.isEmpty()) return
+    // A cancelled generation is not a failure of any file, so it is rethrown as-is.
+    failures.firstOrNull { it.second is CancellationException }?.let { throw it.second }
+    val exception =
+      GdxRuntimeException(
+        failures.joinToString(
+          prefix = "Unable to save ${failures.size} project file(s):\n",
+          separator = "\n",
+        ) { (file, cause) -> "  ${file.path}: ${cause.message ?: cause.javaClass.simpleName}" },
+        failures.first().second,
+      )
+    failures.drop(1).forEach { exception.addSuppressed(it.second) }
+    throw exception
+  }
+
+  private object WriterThreadFactory : ThreadFactory {
+    private val counter = AtomicInteger()
+
+    override fun newThread(runnable: Runnable): Thread =
+      Thread(runnable, "liftoff-file-writer-${counter.incrementAndGet()}").apply { isDaemon = true }
+  }
+
+  companion object {
+    /** Disk writes stop scaling well past a handful of threads, so the pool is capped at 8. */
+    fun defaultThreadCount(): Int = Runtime.getRuntime().availableProcessors().coerceIn(1, 8)
+  }
+}
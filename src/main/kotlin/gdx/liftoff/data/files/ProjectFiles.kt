@@ -15,11 +15,17 @@ interface ProjectFile {
    */
   val path: String
 
+  /**
+   * Saves the file into the chosen sink.
+   * @param sink receives the project files; see [DiskSink], [MemorySink] and [ZipSink].
+   */
+  fun save(sink: OutputSink)
+
   /**
    * Saves the file at the chosen location.
    * @param destination project root folder.
    */
-  fun save(destination: FileHandle)
+  fun save(destination: FileHandle) = save(DiskSink(destination))
 }
 
 /**
@@ -31,8 +37,8 @@ open class SourceDirectory(
 ) : ProjectFile {
   override val path: String = projectName + File.separator + sourcePath
 
-  override fun save(destination: FileHandle) {
-    destination.child(path).mkdirs()
+  override fun save(sink: OutputSink) {
+    sink.createDirectory(path)
   }
 }
 
@@ -76,8 +82,8 @@ open class SourceFile private constructor(
       },
     )
 
-  override fun save(destination: FileHandle) {
-    destination.child(path).writeString(content, false, "UTF-8")
+  override fun save(sink: OutputSink) {
+    sink.write(path, content)
   }
 }
 
@@ -125,8 +131,8 @@ open class CopiedFile private constructor(
       fileType,
     )
 
-  override fun save(destination: FileHandle) {
-    Gdx.files.getFileHandle(original, fileType).copyTo(destination.child(path))
+  override fun save(sink: OutputSink) {
+    sink.copy(path, Gdx.files.getFileHandle(original, fileType))
   }
 }
 
@@ -139,9 +145,9 @@ class PropertiesFile(
 ) : ProjectFile {
   override val path = "gradle.properties"
 
-  override fun save(destination: FileHandle) {
+  override fun save(sink: OutputSink) {
     val content = prepend + properties.map { it.key + "=" + it.value }.joinToString(separator = "\n", postfix = "\n")
-    destination.child(path).writeString(content, false, "UTF-8")
+    sink.write(path, content)
   }
 }
 
@@ -153,7 +159,7 @@ class SettingsFile(
 ) : ProjectFile {
   override val path = "settings.gradle"
 
-  override fun save(destination: FileHandle) {
+  override fun save(sink: OutputSink) {
     val content =
       platforms.joinToString(
         prefix =
@@ -168,6 +174,6 @@ include """,
         separator = ", ",
         postfix = "\n",
       ) { "'${it.id}'" }
-    destination.child(path).writeString(content, false, "UTF-8")
+    sink.write(path, content)
   }
 }
@@ -1,6 +1,6 @@
 package gdx.liftoff.data.files.gradle
 
-import com.badlogic.gdx.files.FileHandle
+import gdx.liftoff.data.files.OutputSink
 import gdx.liftoff.data.files.ProjectFile
 import java.io.File
 
@@ -48,8 +48,8 @@ abstract class GradleFile private constructor(
    */
   fun addSpecialDependency(dependency: String) = specialDependencies.add(dependency)
 
-  override fun save(destination: FileHandle) {
-    destination.child(path).writeString(getContent(), false, "UTF-8")
+  override fun save(sink: OutputSink) {
+    sink.write(path, getContent())
   }
 
   abstract fun getContent(): String
@@ -44,6 +44,109 @@ allprojects {
   }
 }
 
+// From https://lyze.dev/2021/04/29/libGDX-Internal-Assets-List/
+// The article can be helpful when using assets.txt in your project.
+// Lists every file in the assets folder in assets.txt, one relative path per line, sorted. The file is written to
+// build/generated/assetList/, which every project adds to its resources or assets, so it can be read like an asset.
+// If assetIndex is true in gradle.properties, the task also writes assets.idx there, a binary index of every asset
+// with its size and SHA-256 hash. All numbers in it are big-endian:
+// - header: the int 0x47445849 ("GDXI"), the format version (1), the asset count, and the offset of the path table.
+// - one 48-byte record per asset, sorted by path: the path's offset in the path table, the path's length in bytes,
+//   the file size as a long, and the 32-byte SHA-256 hash of the file.
+// - the path table: every path in UTF-8, one after the other.
+// The records all have the same size, so a game can map the file with FileHandle.map(), where the backend supports
+// it, and binary-search it without reading it all.
+// The task is incremental: only added, changed or removed assets are looked at again, and only those are hashed.
+@CacheableTask
+abstract class GenerateAssetList extends DefaultTask {
+  // Every asset, tracked by its path relative to the assets folder, so moving the project doesn't rerun the task.
+  @Incremental
+  @InputFiles
+  @PathSensitive(PathSensitivity.RELATIVE)
+  @IgnoreEmptyDirectories
+  abstract ConfigurableFileCollection getAssets()
+
+  @Input
+  abstract Property<Boolean> getBinaryIndex()
+
+  // Receives assets.txt and assets.idx.
+  @OutputDirectory
+  abstract DirectoryProperty getOutputDirectory()
+
+  // The size and hash of every asset as of the last run, so that the next run only has to look at what changed.
+  @OutputFile
+  abstract RegularFileProperty getStateFile()
+
+  @TaskAction
+  void generate(InputChanges changes) {
+    File state = stateFile.get().asFile
+    boolean index = binaryIndex.get()
+    // path -> [size, hash], sorted by path
+    TreeMap<String, List> entries = new TreeMap<>()
+    if (changes.incremental && state.isFile()) {
+      state.eachLine('UTF-8') { String line ->
+        String[] parts = line.split('\t', 3)
+        entries.put(parts[2], [parts[0] as long, parts[1]])
+      }
+    }
+    // On a full run, such as the first one, every asset is reported as added.
+    changes.getFileChanges(assets).each { FileChange change ->
+      if (change.fileType == FileType.DIRECTORY) return
+      if (change.changeType == ChangeType.REMOVED) {
+        entries.remove(change.normalizedPath)
+      } else {
+        entries.put(change.normalizedPath, [change.file.length(), index ? sha256(change.file) : '-'])
+      }
+    }
+
+    outputDirectory.file('assets.txt').get().asFile.withWriter('UTF-8') { writer ->
+      entries.keySet().each { writer.write(it + '\n') }
+    }
+    File indexFile = outputDirectory.file('assets.idx').get().asFile
+    if (index) writeIndex(entries, indexFile) else indexFile.delete()
+    state.withWriter('UTF-8') { writer ->
+      entries.each { String path, List entry -> writer.write([entry[0], entry[1], path].join('\t') + '\n') }
+    }
+  }
+
+  static String sha256(File file) {
+    def digest = java.security.MessageDigest.getInstance('SHA-256')
+    file.withInputStream { stream ->
+      byte[] buffer = new byte[65536]
+      int read
+      while ((read = stream.read(buffer)) > 0) digest.update(buffer, 0, read)
+    }
+    return digest.digest().encodeHex().toString()
+  }
+
+  static void writeIndex(TreeMap<String, List> entries, File file) {
+    List<byte[]> paths = entries.keySet().collect { it.getBytes('UTF-8') }
+    file.withDataOutputStream { out ->
+      out.writeInt(0x47445849)
+      out.writeInt(1)
+      out.writeInt(entries.size())
+      out.writeInt(16 + 48 * entries.size())
+      int pathOffset = 0
+      int i = 0
+      entries.each { String path, List entry ->
+        out.writeInt(pathOffset)
+        out.writeInt(paths[i].length)
+        out.writeLong(entry[0] as long)
+        out.write((entry[1] as String).decodeHex())
+        pathOffset += paths[i++].length
+      }
+      paths.each { out.write(it) }
+    }
+  }
+}
+
+def generateAssetList = tasks.register('generateAssetList', GenerateAssetList) {
+  assets.from(fileTree('assets'))
+  binaryIndex = providers.gradleProperty('assetIndex').map { it.toBoolean() }.orElse(false)
+  outputDirectory = layout.buildDirectory.dir('generated/assetList')
+  stateFile = layout.buildDirectory.file('assetList/state.tsv')
+}
+
 configure(subprojects${if (project.hasPlatform(Android.ID)) {
       " - project(':android')"
     } else {
@@ -53,25 +156,8 @@ ${plugins.joinToString(separator = "\n") { "  apply plugin: '$it'" }}
   java.sourceCompatibility = ${project.advanced.javaVersion}
   java.targetCompatibility = ${project.advanced.javaVersion}
 
-  // From https://lyze.dev/2021/04/29/libGDX-Internal-Assets-List/
-  // The article can be helpful when using assets.txt in your project.
-  tasks.register('generateAssetList') {
-    inputs.dir("${'$'}{project.rootDir}/assets/")
-    // projectFolder/assets
-    File assetsFolder = new File("${'$'}{project.rootDir}/assets/")
-    // projectFolder/assets/assets.txt
-    File assetsFile = new File(assetsFolder, "assets.txt")
-    // delete that file in case we've already created it
-    assetsFile.delete()
-
-    // iterate through all files inside that folder
-    // convert it to a relative path
-    // and append it to the file assets.txt
-    fileTree(assetsFolder).collect { assetsFolder.relativePath(it) }.sort().each {
-      assetsFile.append(it + "\n")
-    }
-  }
-  processResources.dependsOn 'generateAssetList'
+  // assets.txt is generated once for the whole build, by the root project's task, and read as a resource.
+  sourceSets.main.resources.srcDir(generateAssetList.flatMap { it.outputDirectory })
 
   compileJava {
     options.incremental = true
@@ -1,5 +1,6 @@
 package gdx.liftoff.data.libraries
 
+import gdx.liftoff.NaturalTextComparator
 import gdx.liftoff.data.platforms.Android
 import gdx.liftoff.data.platforms.AndroidGradleFile
 import gdx.liftoff.data.platforms.GWT
@@ -34,32 +35,29 @@ interface Library {
   val defaultVersion: String
 
   /**
-   * Gets the [defaultVersion]. Doesn't try to fetch new versions of libraries!
-   * Fetching multiple libraries can take a while with the default timeout of 30 seconds per library.
+   * Gets the [defaultVersion], unless [VersionCache.fetchLatestVersions] is enabled.
+   * Fetching multiple libraries can take a while with the default timeout of 30 seconds per library, so fetching is
+   * off by default and relies on the persistent [VersionCache] when it is on.
    * Updating Liftoff should ensure that all libraries available via checkboxes use compatible versions.
    * Using an older Liftoff should still download working versions even if newer (potentially incompatible)
    * dependencies are available, and manually updating dependencies is as simple as editing gradle.properties .
+   *
+   * If the "latest" version has been successfully obtained, it is still compared with [NaturalTextComparator]
+   * to try to retrieve the newer version.
    */
   val version: String
     get() {
-      return defaultVersion
+      if (!VersionCache.fetchLatestVersions) return defaultVersion
+      val retrieved = repository.getLatestVersion(group, name)
+      return if (retrieved == null) {
+        defaultVersion
+      } else if (NaturalTextComparator.CASE_INSENSITIVE.compare(retrieved, defaultVersion) >= 0) {
+        retrieved
+      } else {
+        defaultVersion
+      }
     }
 
-//  /* Latest version of the library fetched from the Maven repository or [defaultVersion].
-//   * If the "latest" version has been successfully obtained, it is still compared with [NaturalTextComparator]
-//   * to try to retrieve the newer version. */
-//  val version: String
-//    get() {
-//      val retrieved = repository.getLatestVersion(group, name)
-//      return if (retrieved == null) {
-//        defaultVersion
-//      } else if (NaturalTextComparator.CASE_INSENSITIVE.compare(retrieved, defaultVersion) >= 0) {
-//        retrieved
-//      } else {
-//        defaultVersion
-//      }
-//    }
-
   /**
    * @param project is currently generated and should have this library included.
    */
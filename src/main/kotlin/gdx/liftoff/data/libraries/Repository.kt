@@ -4,12 +4,15 @@ import com.badlogic.gdx.Gdx
 import com.badlogic.gdx.utils.GdxRuntimeException
 import com.badlogic.gdx.utils.JsonReader
 import com.github.kittinunf.fuel.Fuel.get
+import java.util.concurrent.ConcurrentHashMap
 
 /**
  * HTTP request timeout when fetching extension versions.
  */
 const val REQUEST_TIMEOUT = 30000
-val json = JsonReader()
+
+/** One reader per thread, since [VersionResolver] parses responses on several threads at once. */
+private val json: ThreadLocal<JsonReader> = ThreadLocal.withInitial { JsonReader() }
 
 /**
  * Interface for the supported Maven repositories. Fetches the latest versions of the registered libraries.
@@ -25,6 +28,9 @@ interface Repository {
    * Maven Central repository. Fetches version of libraries available through Maven Central or Sonatype OSS.
    */
   object MavenCentral : CachedRepository() {
+    /** Solr search endpoint of Maven Central. Can be replaced to point at a mirror or a local stand-in server. */
+    var searchUrl: String = "https://search.maven.org/solrsearch/select"
+
     override fun fetchLatestVersion(
       group: String,
       name: String,
@@ -58,7 +64,7 @@ interface Repository {
       val response =
         get(
           // https://search.maven.org/solrsearch/select?q=g:"com.github.tommyettinger"%20AND%20a:"textratypist"&rows=1&wt=json
-          "https://search.maven.org/solrsearch/select",
+          searchUrl,
           listOf(
             // yes, we actually do need the spaces in here.
             "q" to """g:"$group" AND a:"$name"""",
@@ -66,41 +72,81 @@ interface Repository {
             "wt" to "json",
           ),
         ).timeout(REQUEST_TIMEOUT)
-      val results = json.parse(response.responseString().third.get())["response"]["docs"]
+      val results = json.get().parse(response.responseString().third.get())["response"]["docs"]
       if (results.notEmpty()) {
         val res = results[0].getString("latestVersion")
         return res
       }
       throw GdxRuntimeException("Unable to fetch $group:$name version from Maven Central.")
     }
+
+    /**
+     * Fetches the latest versions of several artifacts with a single Solr query, joining one
+     * `(g:"group" AND a:"name")` clause per artifact with `OR`. Returns a map of "group:name" to version; artifacts
+     * missing from the response are missing from the map. Fetched versions are also cached, with one write of the
+     * [VersionCache] for the whole batch.
+     */
+    fun fetchLatestVersions(artifacts: Collection<Pair<String, String>>): Map<String, String> {
+      if (artifacts.isEmpty()) return emptyMap()
+      val response =
+        get(
+          searchUrl,
+          listOf(
+            "q" to artifacts.joinToString(separator = " OR ") { (group, name) -> """(g:"$group" AND a:"$name")""" },
+            "rows" to artifacts.size.toString(),
+            "wt" to "json",
+          ),
+        ).timeout(REQUEST_TIMEOUT)
+      val docs = json.get().parse(response.responseString().third.get())["response"]["docs"]
+      val found: MutableMap<String, String> = HashMap(artifacts.size * 2)
+      var doc = docs.child
+      while (doc != null) {
+        val group = doc.getString("g", null)
+        val name = doc.getString("a", null)
+        val version = doc.getString("latestVersion", null)
+        if (group != null && name != null && version != null) found["$group:$name"] = version
+        doc = doc.next
+      }
+      putVersions(found)
+      return found
+    }
   }
 
   /**
    * JitPack Maven repository. Fetches version of libraries available through JitPack.
    */
   object JitPack : CachedRepository() {
+    /** Base URL of the JitPack builds API. Can be replaced to point at a local stand-in server. */
+    var apiUrl: String = "https://jitpack.io/api/builds"
+
     override fun fetchLatestVersion(
       group: String,
       name: String,
     ): String? =
       try {
         val response =
-          get("https://jitpack.io/api/builds/$group/$name/latest")
+          get("$apiUrl/$group/$name/latest")
             .timeout(REQUEST_TIMEOUT)
         // removeSurrounding gets rid of some broken version sections resulting from JitPack -SNAPSHOT usage.
-        json.parse(response.responseString().third.get()).getString("version").removeSurrounding("-", "-1")
+        json.get().parse(response.responseString().third.get()).getString("version").removeSurrounding("-", "-1")
       } catch (exception: Exception) {
-        Gdx.app.error("gdx-liftoff", "Unable to perform a HTTP request to JitPack.", exception)
+        // Gdx.app is only set by the GUI; the CLI, benchmarks and tests generate without it.
+        val app = Gdx.app
+        if (app != null) {
+          app.error("gdx-liftoff", "Unable to perform a HTTP request to JitPack.", exception)
+        } else {
+          System.err.println("Unable to perform a HTTP request to JitPack: $exception")
+        }
         null
       }
   }
 }
 
 /**
- * Abstract implementation of [Repository]. Caches fetched versions.
+ * Abstract implementation of [Repository]. Caches fetched versions in memory and in the persistent [VersionCache].
  */
 abstract class CachedRepository : Repository {
-  private val versions: MutableMap<String, String> = HashMap(64)
+  private val versions: MutableMap<String, String> = ConcurrentHashMap(64)
 
   override fun getLatestVersion(
     group: String,
@@ -110,8 +156,8 @@ abstract class CachedRepository : Repository {
     versions[identifier]?.let {
       return@getLatestVersion it
     }
-    // Latest version not in cache - fetching:
-    val version = fetchLatestVersion(group, name)
+    // Latest version not in memory - checking the persistent cache, which fetches it if missing or stale:
+    val version = VersionCache.getVersion(cacheKey(identifier)) { fetchLatestVersion(group, name) }
     if (version != null) {
       // Nulls are not put in the cache. No version can be returned due to timeout errors or temporary network
       // errors. The application will attempt to fetch the version again on next call.
@@ -122,6 +168,38 @@ abstract class CachedRepository : Repository {
     return version
   }
 
+  /**
+   * Returns the version of "[group]:[name]" if it is already known and fresh, without making any HTTP request.
+   * Returns null if the version would have to be fetched.
+   */
+  fun getCachedVersion(
+    group: String,
+    name: String,
+  ): String? {
+    val identifier = "$group:$name"
+    return versions[identifier] ?: VersionCache.peekVersion(cacheKey(identifier))?.also { versions[identifier] = it }
+  }
+
+  /** Stores a version of "[group]:[name]" that was fetched some other way, such as by a batched request. */
+  fun putVersion(
+    group: String,
+    name: String,
+    version: String,
+  ) {
+    val identifier = "$group:$name"
+    versions[identifier] = version
+    VersionCache.putVersion(cacheKey(identifier), version)
+  }
+
+  /** Stores several versions fetched some other way, keyed by "group:name", saving the [VersionCache] only once. */
+  fun putVersions(found: Map<String, String>) {
+    if (found.isEmpty()) return
+    versions.putAll(found)
+    VersionCache.putVersions(found.mapKeys { (identifier, _) -> cacheKey(identifier) })
+  }
+
+  private fun cacheKey(identifier: String) = "${javaClass.simpleName}/$identifier"
+
   abstract fun fetchLatestVersion(
     group: String,
     name: String,
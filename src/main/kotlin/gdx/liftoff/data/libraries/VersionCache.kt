@@ -0,0 +1,187 @@
+package gdx.liftoff.data.libraries
+
+import gdx.liftoff.data.files.path
+import java.io.File
+import java.util.Properties
+import java.util.concurrent.ConcurrentHashMap
+import java.util.concurrent.ExecutorService
+import java.util.concurrent.Executors
+import java.util.concurrent.ScheduledExecutorService
+import java.util.concurrent.TimeUnit
+import java.util.concurrent.atomic.AtomicBoolean
+
+/**
+ * Persistent cache of library versions fetched by [CachedRepository] instances. Entries are stored in a small
+ * properties file next to the Liftoff preferences, keyed by "repository/group:name", each with the time it was fetched.
+ *
+ * Entries younger than [timeToLive] are returned as-is. Older entries are still returned right away, but a refresh is
+ * scheduled on a background thread, so a slow or unreachable repository never delays the caller if it has been seen
+ * before. When [offline] is true, the network is never used; only cached versions (of any age) are returned.
+ *
+ * Changes are written to [file] at most once per [SAVE_DELAY] milliseconds, and once more when the JVM shuts down, so
+ * resolving many libraries does not rewrite the whole file for each of them.
+ */
+object VersionCache {
+  /** How long a fetched version is considered fresh, in milliseconds. Defaults to one day. */
+  @JvmStatic
+  var timeToLive: Long = TimeUnit.DAYS.toMillis(1)
+
+  /** If true, no HTTP requests are made at all; only versions already in the cache can be returned. */
+  @JvmStatic
+  var offline: Boolean = false
+
+  /**
+   * If true, [Library.version] asks its [Repository] for the latest version instead of always using
+   * [Library.defaultVersion]. This is only practical with the cache, since each uncached fetch can take up to
+   * [REQUEST_TIMEOUT] milliseconds.
+   */
+  @JvmStatic
+  var fetchLatestVersions: Boolean = false
+
+  /** Location of the cache file. Lwjgl3 stores its preferences in the same `.prefs` folder. */
+  @JvmStatic
+  var file: File = File(System.getProperty("user.home"), path(".prefs", "gdx-liftoff-versions.properties"))
+    set(value) {
+      flush()
+      field = value
+      loaded = false
+      entries.clear()
+    }
+
+  private val entries: MutableMap<String, Entry> = ConcurrentHashMap(256)
+  private val refreshing: MutableSet<String> = ConcurrentHashMap.newKeySet()
+  private val refresher: ExecutorService by lazy {
+    Executors.newSingleThreadExecutor { Thread(it, "liftoff-version-refresh").apply { isDaemon = true } }
+  }
+
+  private val saveScheduled = AtomicBoolean()
+  private val writer: ScheduledExecutorService by lazy {
+    Runtime.getRuntime().addShutdownHook(Thread({ flush() }, "liftoff-version-cache-flush"))
+    Executors.newSingleThreadScheduledExecutor { Thread(it, "liftoff-version-cache-writer").apply { isDaemon = true } }
+  }
+
+  @Volatile
+  private var loaded = false
+
+  /** How long changes wait before being written to [file], in milliseconds, so that a burst of them is written once. */
+  const val SAVE_DELAY = 1000L
+
+  private class Entry(
+    val version: String,
+    val fetched: Long,
+  )
+
+  /**
+   * Returns the cached version stored under [key], fetching it with [fetch] if missing. Stale versions are returned
+   * immediately and refreshed in the background. Returns null if there is no cached version and it cannot be fetched.
+   */
+  fun getVersion(
+    key: String,
+    fetch: () -> String?,
+  ): String? {
+    load()
+    val entry = entries[key]
+    if (offline) return entry?.version
+    if (entry == null) return fetchAndStore(key, fetch)
+    if (System.currentTimeMillis() - entry.fetched > timeToLive && refreshing.add(key)) {
+      refresher.execute {
+        try {
+          fetchAndStore(key, fetch)
+        } finally {
+          refreshing.remove(key)
+        }
+      }
+    }
+    return entry.version
+  }
+
+  /**
+   * Returns the version stored under [key] if it is still fresh, or any stored version when [offline].
+   * Never fetches anything; returns null if the version would need to be fetched.
+   */
+  fun peekVersion(key: String): String? {
+    load()
+    val entry = entries[key] ?: return null
+    return if (offline || System.currentTimeMillis() - entry.fetched <= timeToLive) entry.version else null
+  }
+
+  /** Stores a [version] that was fetched outside of [getVersion], such as by a batched request. */
+  fun putVersion(
+    key: String,
+    version: String,
+  ) {
+    load()
+    entries[key] = Entry(version, System.currentTimeMillis())
+    scheduleSave()
+  }
+
+  /** Stores several versions, keyed like [putVersion]. */
+  fun putVersions(versions: Map<String, String>) {
+    load()
+    val fetched = System.currentTimeMillis()
+    versions.forEach { (key, version) -> entries[key] = Entry(version, fetched) }
+    scheduleSave()
+  }
+
+  /** Removes every cached version, both in memory and on disk. */
+  fun clear() {
+    entries.clear()
+    loaded = true
+    saveScheduled.set(false)
+    save()
+  }
+
+  /** Writes any changes that are still waiting for [SAVE_DELAY] to [file] right away. */
+  @JvmStatic
+  fun flush() {
+    if (saveScheduled.getAndSet(false)) save()
+  }
+
+  private fun fetchAndStore(
+    key: String,
+    fetch: () -> String?,
+  ): String? {
+    val version = fetch() ?: return null
+    entries[key] = Entry(version, System.currentTimeMillis())
+    scheduleSave()
+    return version
+  }
+
+  private fun scheduleSave() {
+    if (saveScheduled.compareAndSet(false, true)) writer.schedule(Runnable { flush() }, SAVE_DELAY, TimeUnit.MILLISECONDS)
+  }
+
+  @Synchronized
+  private fun load() {
+    if (loaded) return
+    loaded = true
+    if (!file.isFile) return
+    try {
+      val properties = Properties()
+      file.inputStream().use { properties.load(it) }
+      properties.stringPropertyNames().forEach { key ->
+        // Stored as "timestamp,version"; versions never contain commas.
+        val value = properties.getProperty(key)
+        val comma = value.indexOf(',')
+        val fetched = value.substring(0, maxOf(comma, 0)).toLongOrNull()
+        if (fetched != null && comma < value.length - 1) {
+          entries[key] = Entry(value.substring(comma + 1), fetched)
+        }
+      }
+    } catch (_: Exception) {
+      // A corrupted cache is not a problem; versions will be fetched again.
+    }
+  }
+
+  @Synchronized
+  private fun save() {
+    try {
+      val properties = Properties()
+      entries.forEach { (key, entry) -> properties.setProperty(key, "${entry.fetched},${entry.version}") }
+      file.parentFile?.mkdirs()
+      file.outputStream().use { properties.store(it, "Library versions cached by gdx-liftoff") }
+    } catch (_: Exception) {
+      // The cache is only an optimization; the in-memory entries are still used.
+    }
+  }
+}
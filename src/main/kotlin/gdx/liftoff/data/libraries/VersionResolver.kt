@@ -0,0 +1,217 @@
+package gdx.liftoff.data.libraries
+
+import gdx.liftoff.data.project.ExtensionsData
+import java.net.URI
+import java.util.concurrent.CompletableFuture
+import java.util.concurrent.ConcurrentHashMap
+import java.util.concurrent.ExecutorService
+import java.util.concurrent.Executors
+import java.util.concurrent.Semaphore
+import java.util.concurrent.TimeUnit
+import java.util.concurrent.atomic.AtomicInteger
+
+/**
+ * Fetches the latest versions of many libraries at once, so that a whole [ExtensionsData] selection takes about one
+ * round trip instead of one request (and potentially one [REQUEST_TIMEOUT]) per library.
+ *
+ * - Versions already known to a [CachedRepository] or the [VersionCache] are never requested again.
+ * - Maven Central artifacts are grouped into batches of up to [batchSize], each fetched with one Solr query. If a
+ *   batch fails as a whole, its artifacts are fetched one per request instead.
+ * - JitPack artifacts are fetched one per request, since its API has no batch query.
+ * - Requests for the same artifact share a single in-flight fetch, even across resolvers and threads.
+ * - At most [maxRequestsPerHost] requests run against the same host (and port) at the same time.
+ * - A whole resolve waits at most [timeout] milliseconds, however many libraries are slow. Fetches it gives up on
+ *   resolve to null, also for other resolvers sharing them, so nothing keeps waiting for them.
+ *
+ * Fetched versions end up in the repositories' caches, so later [Library.version] calls do not block.
+ */
+class VersionResolver(
+  private val batchSize: Int = 25,
+  private val maxRequestsPerHost: Int = 4,
+  private val timeout: Long = REQUEST_TIMEOUT.toLong(),
+) {
+  /**
+   * Resolves the versions of every selected official and third-party extension.
+   * @return map of [Library.id] to the latest version found; libraries that could not be resolved are omitted.
+   */
+  fun resolve(extensions: ExtensionsData): Map<String, String> =
+    resolve(extensions.officialExtensions + extensions.thirdPartyExtensions)
+
+  /**
+   * Resolves the latest versions of [libraries].
+   * @return map of [Library.id] to the latest version found; libraries that could not be resolved are omitted.
+   */
+  fun resolve(libraries: Collection<Library>): Map<String, String> {
+    val futures: MutableMap<String, CompletableFuture<String?>> = LinkedHashMap(libraries.size * 2)
+    // The in-flight fetches this resolver started; other resolvers may be waiting for them too.
+    val owned: MutableMap<String, CompletableFuture<String?>> = LinkedHashMap()
+    val mavenCentral: MutableList<Pair<String, String>> = mutableListOf()
+    val executor: ExecutorService =
+      Executors.newFixedThreadPool(maxRequestsPerHost * 2) { runnable ->
+        Thread(runnable, "liftoff-version-resolver-${threadCounter.incrementAndGet()}").apply { isDaemon = true }
+      }
+    try {
+      libraries.forEach { library ->
+        val repository = library.repository
+        val identifier = "${library.group}:${library.name}"
+        val key = "${repository.javaClass.name}/$identifier"
+        if (key in futures) return@forEach
+        when (repository) {
+          is CachedRepository -> {
+            val cached = repository.getCachedVersion(library.group, library.name)
+            futures[key] =
+              when {
+                cached != null -> CompletableFuture.completedFuture(cached)
+                VersionCache.offline -> CompletableFuture.completedFuture(null)
+                repository === Repository.MavenCentral -> {
+                  // Replaced by the batch's future in requestMavenCentralBatches().
+                  mavenCentral.add(library.group to library.name)
+                  CompletableFuture()
+                }
+                else ->
+                  singleFlight(key, owned, executor) {
+                    withHostLimit(hostOf(repository)) { repository.getLatestVersion(library.group, library.name) }
+                  }
+              }
+          }
+          // SingleVersionRepository fetches its shared version lazily, once; other repositories are unknown.
+          else ->
+            futures[key] = singleFlight(key, owned, executor) { repository.getLatestVersion(library.group, library.name) }
+        }
+      }
+      requestMavenCentralBatches(mavenCentral, futures, owned, executor)
+
+      // One deadline for the whole resolve, rather than one timeout per library.
+      val deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeout)
+
+      val versions: MutableMap<String, String> = LinkedHashMap(libraries.size * 2)
+      libraries.forEach { library ->
+        val key = "${library.repository.javaClass.name}/${library.group}:${library.name}"
+        val version =
+          try {
+            futures[key]?.get(maxOf(deadline - System.nanoTime(), 0L), TimeUnit.NANOSECONDS)
+          } catch (_: Exception) {
+            null
+          }
+        if (version != null) versions[library.id] = version
+      }
+      return versions
+    } finally {
+      // Queued tasks are dropped by shutdownNow(), so their fetches are given up on here; completing a future that
+      // is already done does nothing.
+      owned.forEach { (key, future) ->
+        future.complete(null)
+        inFlight.remove(key, future)
+      }
+      executor.shutdownNow()
+    }
+  }
+
+  private fun requestMavenCentralBatches(
+    artifacts: List<Pair<String, String>>,
+    futures: MutableMap<String, CompletableFuture<String?>>,
+    owned: MutableMap<String, CompletableFuture<String?>>,
+    executor: ExecutorService,
+  ) {
+    val prefix = Repository.MavenCentral.javaClass.name + "/"
+    // Artifacts already being fetched by someone else are simply awaited; the rest are batched here.
+    val batched: MutableList<Pair<String, String>> = mutableListOf()
+    val ownedFutures: MutableMap<String, CompletableFuture<String?>> = HashMap(artifacts.size * 2)
+    artifacts.forEach { artifact ->
+      val identifier = "${artifact.first}:${artifact.second}"
+      val own = CompletableFuture<String?>()
+      val existing = inFlight.putIfAbsent(prefix + identifier, own)
+      if (existing == null) {
+        batched.add(artifact)
+        ownedFutures[identifier] = own
+        owned[prefix + identifier] = own
+        futures[prefix + identifier] = own
+      } else {
+        futures[prefix + identifier] = existing
+      }
+    }
+    val host = hostOf(Repository.MavenCentral)
+    batched.chunked(batchSize).forEach { batch ->
+      CompletableFuture.runAsync({
+        val found: Map<String, String>? =
+          try {
+            withHostLimit(host) { Repository.MavenCentral.fetchLatestVersions(batch) }
+          } catch (_: Exception) {
+            null
+          }
+        batch.forEach { (group, name) ->
+          val identifier = "$group:$name"
+          val future = ownedFutures.getValue(identifier)
+          if (found != null) {
+            inFlight.remove(prefix + identifier, future)
+            future.complete(found[identifier])
+          } else {
+            // The whole batch failed, such as when a mirror rejects long queries; each artifact is asked for alone.
+            CompletableFuture.runAsync({
+              try {
+                future.complete(withHostLimit(host) { Repository.MavenCentral.getLatestVersion(group, name) })
+              } catch (_: Exception) {
+                future.complete(null)
+              } finally {
+                inFlight.remove(prefix + identifier, future)
+              }
+            }, executor)
+          }
+        }
+      }, executor)
+    }
+  }
+
+  private fun singleFlight(
+    key: String,
+    owned: MutableMap<String, CompletableFuture<String?>>,
+    executor: ExecutorService,
+    fetch: () -> String?,
+  ): CompletableFuture<String?> {
+    val own = CompletableFuture<String?>()
+    val existing = inFlight.putIfAbsent(key, own)
+    if (existing != null) return existing
+    owned[key] = own
+    CompletableFuture.runAsync({
+      try {
+        own.complete(fetch())
+      } catch (exception: Exception) {
+        own.completeExceptionally(exception)
+      } finally {
+        // Only this fetch's own entry; a later resolver may have started another one under the same key.
+        inFlight.remove(key, own)
+      }
+    }, executor)
+    return own
+  }
+
+  private fun hostOf(repository: Repository): String =
+    try {
+      when (repository) {
+        Repository.MavenCentral -> URI(Repository.MavenCentral.searchUrl).authority
+        Repository.JitPack -> URI(Repository.JitPack.apiUrl).authority
+        else -> null
+      }
+    } catch (_: Exception) {
+      null
+    } ?: repository.javaClass.name
+
+  private fun <T> withHostLimit(
+    host: String,
+    request: () -> T,
+  ): T {
+    val semaphore = hostLimits.computeIfAbsent(host) { Semaphore(maxRequestsPerHost) }
+    semaphore.acquire()
+    try {
+      return request()
+    } finally {
+      semaphore.release()
+    }
+  }
+
+  companion object {
+    private val threadCounter = AtomicInteger()
+    private val inFlight: ConcurrentHashMap<String, CompletableFuture<String?>> = ConcurrentHashMap()
+    private val hostLimits: ConcurrentHashMap<String, Semaphore> = ConcurrentHashMap()
+  }
+}
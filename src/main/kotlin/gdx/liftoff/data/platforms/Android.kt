@@ -165,7 +165,9 @@ android {
       aidl.setSrcDirs([${srcFolders.joinToString(separator = ", ")}])
       renderscript.setSrcDirs([${srcFolders.joinToString(separator = ", ")}])
       res.setSrcDirs(['res'])
-      assets.setSrcDirs(['../assets'])
+      // The second folder holds assets.txt; taking it from the root project's generateAssetList task also makes
+      // merging assets depend on that task.
+      assets.setSrcDirs(['../assets', rootProject.tasks.named('generateAssetList').flatMap { it.outputDirectory }])
       jniLibs.setSrcDirs(['libs'])
     }
   }
@@ -145,7 +145,8 @@ ${project.gwtInherits.sortedWith(INHERIT_COMPARATOR).joinToString(separator = "\
   <!-- <extend-configuration-property name="gdx.files.classpath" value="path/to/file.png" /> -->
 
   <!-- You usually won't need to make changes to the rest of this. -->
-  <set-configuration-property name="gdx.assetpath" value="../assets" />
+  <!-- This folder is filled by the gatherAssets task in build.gradle, from ../assets and the generated assets.txt . -->
+  <set-configuration-property name="gdx.assetpath" value="build/gwtAssets" />
   <set-configuration-property name="xsiframe.failIfScriptTag" value="FALSE"/>
   <!-- These two lines reduce the work GWT has to do during compilation and also shrink output size. -->
   <set-property name="user.agent" value="gecko1_8, safari"/>
@@ -348,6 +349,16 @@ tasks.register('superDev') {
 
 tasks.compileJava.dependsOn("processResources")
 
+//// GWT's preloader only reads one assets folder, but assets.txt is generated in the root project's build/ folder.
+//// This gathers both into build/gwtAssets/, which GdxDefinition.gwt.xml uses as its gdx.assetpath .
+tasks.register('gatherAssets', Sync) {
+  mustRunAfter("clean")
+  from(rootProject.file('assets'))
+  from(rootProject.tasks.named('generateAssetList').flatMap { it.outputDirectory })
+  into(layout.buildDirectory.dir('gwtAssets'))
+}
+tasks.compileJava.dependsOn("gatherAssets")
+
 java.sourceCompatibility = ${if (project.advanced.gwtVersion == "2.10.0" || project.advanced.gwtVersion == "2.11.0") "JavaVersion.VERSION_11" else "JavaVersion.VERSION_1_8"}
 java.targetCompatibility = ${if (project.advanced.gwtVersion == "2.10.0" || project.advanced.gwtVersion == "2.11.0") "JavaVersion.VERSION_11" else "JavaVersion.VERSION_1_8"}
 sourceSets.main.java.srcDirs = [ "src/main/java/" ]
@@ -69,6 +69,10 @@ app.name=${project.basic.name}""",
       </includes>
       <skipPngCrush>true</skipPngCrush>
     </resource>
+    <!-- Holds assets.txt, written by the root project's generateAssetList task. -->
+    <resource>
+      <directory>../build/generated/assetList</directory>
+    </resource>
     <resource>
       <directory>data</directory>
     </resource>
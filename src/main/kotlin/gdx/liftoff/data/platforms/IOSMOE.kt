@@ -4,8 +4,8 @@ package gdx.liftoff.data.platforms
 
 import com.badlogic.gdx.Files
 import com.badlogic.gdx.Gdx
-import com.badlogic.gdx.files.FileHandle
 import gdx.liftoff.data.files.CopiedFile
+import gdx.liftoff.data.files.OutputSink
 import gdx.liftoff.data.files.gradle.GradleFile
 import gdx.liftoff.data.files.path
 import gdx.liftoff.data.project.Project
@@ -141,10 +141,10 @@ class ReplacedContentFile(
     original,
     fileType,
   ) {
-  override fun save(destination: FileHandle) {
+  override fun save(sink: OutputSink) {
     var input = Gdx.files.getFileHandle(original, fileType).readString("UTF-8")
     replaceMap.forEach { (t, u) -> input = input.replace(t, u) }
-    destination.child(path).writeString(input, false, "UTF-8")
+    sink.write(path, input)
   }
 }
 
@@ -63,6 +63,44 @@ class Lwjgl3 : Platform {
         fileName = "nativeimage.gradle",
         content =
 """
+import groovy.json.JsonOutput
+
+// Modified from https://lyze.dev/2021/04/29/libGDX-Internal-Assets-List/ ; thanks again, Lyze!
+// This creates a resource-config.json file based on the contents of the assets folder (and the libGDX icons).
+// This file is used by Graal Native to embed those specific files.
+// The task declares its inputs and output, so it only runs again when the assets change. It also works with the
+// configuration cache, and its output can be reused from the build cache.
+@CacheableTask
+abstract class GenerateNativeResourceConfig extends DefaultTask {
+  // Only the file names matter here, not their contents.
+  @InputFiles
+  @PathSensitive(PathSensitivity.NAME_ONLY)
+  @IgnoreEmptyDirectories
+  abstract ConfigurableFileCollection getAssets()
+
+  @Input
+  abstract Property<String> getImageName()
+
+  @OutputDirectory
+  abstract DirectoryProperty getOutputDirectory()
+
+  @TaskAction
+  void generate() {
+    // The backslash-Q and backslash-E escape the start and end of a literal string, respectively.
+    List<String> patterns = assets.files.collect { '\\Q' + it.name + '\\E' }.unique().sort()
+    // We also match all of the window icon images this way and the font files that are part of libGDX.
+    patterns.addAll(['libgdx.+\\.png', 'lsans.+'])
+    def config = [
+      resources: [includes: [[pattern: '.*(' + patterns.join('|') + ')']]],
+      bundles  : []
+    ]
+    // Native Image reads configuration from any folder under META-INF/native-image/ on the classpath.
+    def outputFolder = outputDirectory.dir("META-INF/native-image/${'$'}{imageName.get()}-assets").get().asFile
+    outputFolder.mkdirs()
+    new File(outputFolder, "resource-config.json").text = JsonOutput.prettyPrint(JsonOutput.toJson(config))
+  }
+}
+
 project(":lwjgl3") {
   apply plugin: "org.graalvm.buildtools.native"
 
@@ -84,37 +122,13 @@ project(":lwjgl3") {
     doNotTrackState("Running the app should not be affected by Graal.")
   }
 
-  // Modified from https://lyze.dev/2021/04/29/libGDX-Internal-Assets-List/ ; thanks again, Lyze!
-  // This creates a resource-config.json file based on the contents of the assets folder (and the libGDX icons).
-  // This file is used by Graal Native to embed those specific files.
-  // This has to run before nativeCompile, so it runs at the start of an unrelated resource-handling command.
-  generateResourcesConfigFile.doFirst {
-    def assetsFolder = new File("${'$'}{project.rootDir}/assets/")
-    def lwjgl3 = project(':lwjgl3')
-    def resFolder = new File("${'$'}{lwjgl3.projectDir}/src/main/resources/META-INF/native-image/${'$'}{lwjgl3.ext.appName}")
-    resFolder.mkdirs()
-    def resFile = new File(resFolder, "resource-config.json")
-    resFile.delete()
-    resFile.append(
-            ""${'"'}{
-  "resources":{
-  "includes":[
-    {
-      "pattern": ".*(""${'"'})
-    // This adds every filename in the assets/ folder to a pattern that adds those files as resources.
-    fileTree(assetsFolder).each {
-      // The backslash-Q and backslash-E escape the start and end of a literal string, respectively.
-      resFile.append("\\\\Q${'$'}{it.name}\\\\E|")
-    }
-    // We also match all of the window icon images this way and the font files that are part of libGDX.
-    resFile.append(
-            ""${'"'}libgdx.+\\\\.png|lsans.+)"
-    }
-  ]},
-  "bundles":[]
-}""${'"'}
-    )
+  def generateNativeResourceConfig = tasks.register('generateNativeResourceConfig', GenerateNativeResourceConfig) {
+    assets.from(rootProject.fileTree('assets'))
+    imageName = appName
+    outputDirectory = layout.buildDirectory.dir('generated/native-image-resources')
   }
+  // The generated folder is a resource folder, so the config is on the classpath that nativeCompile reads.
+  sourceSets.main.resources.srcDir(generateNativeResourceConfig)
 }
 """,
       ),
@@ -0,0 +1,156 @@
+package gdx.liftoff.data.project
+
+/**
+ * Trades memory for build speed in the generated gradle.properties. Each profile decides whether the Gradle daemon,
+ * parallel execution, the build cache and the configuration cache are on. It also sets how large the Gradle heap is
+ * and, except for [MINIMAL_RAM], how Kotlin is compiled if Kotlin is selected.
+ *
+ * `org.gradle.configureondemand` stays false in every profile, since it breaks projects with Android modules.
+ * @param title names the profile in the generated README.
+ * @param bundleLine names the UI text describing the profile.
+ */
+enum class BuildProfile(
+  val title: String,
+  val bundleLine: String,
+  val daemon: Boolean,
+  val parallel: Boolean,
+  val buildCache: Boolean,
+  val configurationCache: Boolean,
+) {
+  /**
+   * The settings liftoff always used: no daemon, a fixed 1GB heap, and no caches. The generated gradle.properties is
+   * exactly the one earlier liftoff versions wrote, with Kotlin settings left at Kotlin's defaults.
+   */
+  MINIMAL_RAM("Minimal RAM", "buildProfileMinimalRam", daemon = false, parallel = false, buildCache = false, configurationCache = false),
+
+  /**
+   * For working on the project day to day: the daemon keeps Gradle warm between builds, modules build in parallel,
+   * and task outputs are reused from the build cache. The heap grows with the number of platforms.
+   */
+  BALANCED("Balanced", "buildProfileBalanced", daemon = true, parallel = true, buildCache = true, configurationCache = false),
+
+  /**
+   * For single-use machines such as CI runners: no daemon is left behind, but builds run in parallel with the build
+   * and configuration caches, and a larger heap. Kotlin compiles in-process and without incremental caches, which
+   * only help on a machine that builds again.
+   */
+  FAST_CI("Fast CI", "buildProfileFastCi", daemon = false, parallel = true, buildCache = true, configurationCache = true),
+  ;
+
+  /**
+   * Maximum Gradle heap, in megabytes, for a project with [platformCount] platforms. [MINIMAL_RAM] keeps the heap
+   * fixed; the other profiles add room for each platform module beyond core and one backend.
+   */
+  fun maxHeap(platformCount: Int): Int {
+    val extraModules = (platformCount - 2).coerceAtLeast(0)
+    return when (this) {
+      MINIMAL_RAM -> 1024
+      BALANCED -> (1024 + 256 * extraModules).coerceAtMost(3072)
+      FAST_CI -> (2048 + 512 * extraModules).coerceAtMost(6144)
+    }
+  }
+
+  /**
+   * The comments and settings at the top of gradle.properties.
+   * @param platformCount number of selected platforms, including core.
+   * @param kotlin true if Kotlin is one of the selected languages.
+   */
+  fun gradleProperties(
+    platformCount: Int,
+    kotlin: Boolean,
+  ): String =
+    buildString {
+      if (daemon) {
+        appendLine("# The daemon keeps Gradle loaded between builds, which makes every build after the first faster.")
+        appendLine("# It stops after 3 idle hours; it can be stopped sooner with './gradlew --stop'.")
+      } else {
+        appendLine("# This doesn't need to be false, and some projects may be able to take advantage of setting daemon to true.")
+        appendLine("# We set it to false by default in order to avoid too many daemons from being created and persisting; each needs RAM.")
+      }
+      appendLine("org.gradle.daemon=$daemon")
+      val heap = maxHeap(platformCount)
+      appendLine(
+        "# Sets starting memory usage to 512MB, maximum memory usage to ${megabytes(heap)}, and tries to set as much to use Unicode as we can.",
+      )
+      appendLine("org.gradle.jvmargs=-Xms512M -Xmx${heapFlag(heap)} -Dfile.encoding=UTF-8 -Dconsole.encoding=UTF-8")
+      appendLine("# \"Configure on-demand\" must be false because it breaks projects that have Android modules. The default is also false.")
+      appendLine("org.gradle.configureondemand=false")
+      if (parallel) {
+        appendLine("# Builds independent modules, such as core and each platform, at the same time.")
+        appendLine("org.gradle.parallel=true")
+      }
+      if (buildCache) {
+        appendLine("# Reuses task outputs from earlier builds, even after 'clean' or when switching branches.")
+        appendLine("org.gradle.caching=true")
+      }
+      if (configurationCache) {
+        appendLine("# Skips configuring the build when nothing in the build scripts changed. Plugins that do not support it yet")
+        appendLine("# only cause warnings; Gradle then configures the build as usual.")
+        appendLine("org.gradle.configuration-cache=true")
+        appendLine("org.gradle.configuration-cache.problems=warn")
+      }
+      if (kotlin) appendKotlinProperties(heap)
+      append(
+        """
+        # The logging level determines which messages get shown about how Gradle itself is working, such as if build.gradle
+        # files are fully future-proof (which they never are, because Gradle constantly deprecates working APIs).
+        # You can change 'quiet' below to 'lifecycle' to use Gradle's default behavior, which shows some confusing messages.
+        # You could instead change 'quiet' below to 'info' to see info that's important mainly while debugging build files.
+        # Note that if you want to use Gradle Build Scans, you should set the below logging level to 'lifecycle', otherwise
+        # the link to the scan won't get shown at all.
+        # Documented at: https://docs.gradle.org/current/userguide/command_line_interface.html#sec:command_line_logging
+        org.gradle.logging.level=quiet
+
+        """.trimIndent(),
+      )
+    }
+
+  private fun StringBuilder.appendKotlinProperties(heap: Int) {
+    when (this@BuildProfile) {
+      MINIMAL_RAM -> Unit
+      BALANCED -> {
+        appendLine("# The Kotlin daemon compiles Kotlin sources, and stays running alongside the Gradle daemon.")
+        appendLine("kotlin.daemon.jvmargs=-Xmx${heapFlag(heap)}")
+      }
+      FAST_CI -> {
+        appendLine("# Compiles Kotlin inside the Gradle process, and skips the incremental caches that a fresh machine never reuses.")
+        appendLine("kotlin.compiler.execution.strategy=in-process")
+        appendLine("kotlin.incremental=false")
+      }
+    }
+  }
+
+  /**
+   * Flags worth knowing with this profile, and what they do, for the README. Each flag turns one setting of the
+   * profile the other way for a single run.
+   */
+  fun readmeFlags(): List<Pair<String, String>> =
+    listOfNotNull(
+      if (daemon) {
+        "--no-daemon" to "gradle.properties enables the Gradle daemon; this flag runs chosen tasks in a single-use Gradle process instead."
+      } else {
+        "--daemon" to "thanks to this flag, Gradle daemon will be used to run chosen tasks."
+      },
+      if (parallel) {
+        "--no-parallel" to "gradle.properties enables parallel execution; this flag builds one project at a time, which makes logs easier to follow."
+      } else {
+        "--parallel" to "builds independent projects at the same time. Faster, but uses more memory."
+      },
+      if (buildCache) {
+        "--no-build-cache" to "gradle.properties enables the build cache; this flag runs every task again instead of reusing cached outputs."
+      } else {
+        "--build-cache" to "reuses task outputs from earlier builds, even after `clean`."
+      },
+      if (configurationCache) {
+        "--no-configuration-cache" to "gradle.properties enables the configuration cache; this flag configures the build from scratch."
+      } else {
+        null
+      },
+    )
+
+  private companion object {
+    fun heapFlag(megabytes: Int): String = if (megabytes % 1024 == 0) "${megabytes / 1024}G" else "${megabytes}M"
+
+    fun megabytes(megabytes: Int): String = if (megabytes % 1024 == 0) "${megabytes / 1024}GB" else "${megabytes}MB"
+  }
+}
@@ -30,6 +30,7 @@ data class AdvancedProjectData(
   val gradleTasks: MutableList<String>,
   val generateEditorConfig: Boolean = true,
   val indentSize: Int = 4,
+  val buildProfile: BuildProfile = BuildProfile.MINIMAL_RAM,
 ) {
   /**
    * Currently hard-coded to 36, since AndroidX 1.17.0 requires that at minimum, and that seems to be used automatically now.
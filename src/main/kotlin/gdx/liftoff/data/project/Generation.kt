@@ -0,0 +1,227 @@
+package gdx.liftoff.data.project
+
+import com.badlogic.gdx.files.FileHandle
+import gdx.liftoff.data.files.OutputSink
+import java.util.EnumMap
+import java.util.concurrent.CancellationException
+import java.util.concurrent.atomic.AtomicInteger
+import java.util.concurrent.atomic.AtomicLong
+
+/**
+ * Stages of project generation, in the order they run. [bundleLine] names the UI text describing each stage.
+ */
+enum class GenerationStage(
+  val bundleLine: String,
+) {
+  /** Languages and extensions add their dependencies and files. */
+  EXTENSIONS("stageExtensions"),
+
+  /** The template adds its source files. */
+  TEMPLATE("stageTemplate"),
+
+  /** Platforms add their modules; the settings file is written. */
+  PLATFORMS("stagePlatforms"),
+
+  /** The optional GUI skin is added. */
+  SKIN_ASSETS("stageSkinAssets"),
+
+  /** The README, .editorconfig and gradle.properties are prepared; gradle.properties is written. */
+  PROPERTIES("stageProperties"),
+
+  /** Every project file is written to the sink. */
+  FILE_WRITES("stageFileWrites"),
+
+  /** The Gradle wrapper is copied. */
+  WRAPPER("stageWrapper"),
+
+  /** The Gradle tasks chosen by the user run in the generated project. */
+  GRADLE_TASKS("stageGradleTasks"),
+}
+
+/**
+ * Progress of one [GenerationStage].
+ * @param done items finished so far in the stage, such as written files.
+ * @param total items the stage will handle, or 0 if that is not known up front.
+ * @param bytes bytes written so far in the stage.
+ * @param elapsedNanos time since the stage started.
+ */
+data class GenerationEvent(
+  val stage: GenerationStage,
+  val kind: Kind,
+  val done: Int,
+  val total: Int,
+  val bytes: Long,
+  val elapsedNanos: Long,
+) {
+  enum class Kind { STARTED, PROGRESS, FINISHED }
+
+  /** Progress of the whole generation from 0 to 1, with each stage counting the same. */
+  val overallProgress: Float
+    get() {
+      val withinStage =
+        when {
+          kind == Kind.FINISHED -> 1f
+          total > 0 -> done.toFloat() / total
+          else -> 0f
+        }
+      return (stage.ordinal + withinStage.coerceIn(0f, 1f)) / GenerationStage.entries.size
+    }
+
+  /** Such as "FILE_WRITES progress: 42/120, 180 KB, 35 ms". */
+  override fun toString(): String =
+    buildString {
+      append(stage).append(' ').append(kind.name.lowercase()).append(": ").append(done)
+      if (total > 0) append('/').append(total)
+      if (bytes > 0) append(", ").append((bytes + 1023) / 1024).append(" KB")
+      append(", ").append(elapsedNanos / 1_000_000).append(" ms")
+    }
+}
+
+/**
+ * Receives the events of a generation. Events of the file writing stage can come from several threads at once.
+ */
+fun interface GenerationListener {
+  fun onEvent(event: GenerationEvent)
+}
+
+/**
+ * Tracks one generation: runs its stages, reports their progress to [listener], and lets any thread cancel it. A
+ * cancelled generation throws a [CancellationException] at the start of the next stage or the next file written; a
+ * running Gradle process is stopped. Files already written are left in place.
+ */
+class GenerationMonitor(
+  private val listener: GenerationListener,
+) {
+  /** Creates a monitor that does not report progress, but can still cancel. */
+  constructor() : this(GenerationListener { })
+
+  @Volatile
+  var isCancelled: Boolean = false
+    private set
+
+  @Volatile
+  private var process: Process? = null
+
+  private val stageNanos: MutableMap<GenerationStage, Long> = EnumMap(GenerationStage::class.java)
+
+  /** How long each finished stage took, in nanoseconds, in the order the stages ran. */
+  val durations: Map<GenerationStage, Long>
+    get() = synchronized(stageNanos) { EnumMap(stageNanos) }
+
+  /** Stops the generation as soon as possible. Can be called from any thread. */
+  fun cancel() {
+    isCancelled = true
+    process?.destroy()
+  }
+
+  /** @throws CancellationException if [cancel] was called. */
+  fun checkCancelled() {
+    if (isCancelled) throw CancellationException("Project generation was cancelled.")
+  }
+
+  /** Runs one stage, reporting when it starts and finishes. [total] is the number of items it will handle, if known. */
+  fun <T> stage(
+    stage: GenerationStage,
+    total: Int = 0,
+    block: (StageProgress) -> T,
+  ): T {
+    checkCancelled()
+    val progress = StageProgress(stage, total)
+    listener.onEvent(progress.event(GenerationEvent.Kind.STARTED))
+    val result = block(progress)
+    val finished = progress.event(GenerationEvent.Kind.FINISHED)
+    synchronized(stageNanos) { stageNanos[stage] = finished.elapsedNanos }
+    listener.onEvent(finished)
+    return result
+  }
+
+  /**
+   * Waits for a process started during a stage, stopping it if the generation is cancelled meanwhile.
+   * @param whileRunning runs before waiting, such as to read the output of the process; the process is stopped on
+   * cancellation while this runs too.
+   * @return the exit value of the process.
+   */
+  fun waitFor(
+    process: Process,
+    whileRunning: () -> Unit = {},
+  ): Int {
+    this.process = process
+    try {
+      if (isCancelled) process.destroy()
+      try {
+        whileRunning()
+      } catch (exception: Exception) {
+        // Reading from a process stopped by cancel() can fail; that is still a cancellation.
+        checkCancelled()
+        throw exception
+      }
+      val exitValue = process.waitFor()
+      checkCancelled()
+      return exitValue
+    } finally {
+      this.process = null
+    }
+  }
+
+  /** Summary of [durations], such as "EXTENSIONS 2 ms, TEMPLATE 1 ms, ...". */
+  fun summary(): String = durations.entries.joinToString { (stage, nanos) -> "$stage ${nanos / 1_000_000} ms" }
+
+  /** Counters of the running stage. Thread-safe, so parallel file writes can all report to it. */
+  inner class StageProgress internal constructor(
+    val stage: GenerationStage,
+    private val total: Int,
+  ) {
+    private val start = System.nanoTime()
+    private val done = AtomicInteger()
+    private val bytes = AtomicLong()
+
+    /** Counts one finished item of [size] bytes, and reports the new progress. */
+    fun advance(size: Long = 0L) {
+      done.incrementAndGet()
+      bytes.addAndGet(size)
+      listener.onEvent(event(GenerationEvent.Kind.PROGRESS))
+    }
+
+    /** Wraps [sink] so that each file written through it is checked for cancellation and counted in this stage. */
+    fun track(sink: OutputSink): OutputSink = ProgressSink(sink, this)
+
+    internal fun event(kind: GenerationEvent.Kind) =
+      GenerationEvent(stage, kind, done.get(), total, bytes.get(), System.nanoTime() - start)
+  }
+
+  private inner class ProgressSink(
+    private val sink: OutputSink,
+    private val progress: StageProgress,
+  ) : OutputSink {
+    override val supportsParallelWrites: Boolean
+      get() = sink.supportsParallelWrites
+
+    override fun createDirectory(path: String) {
+      checkCancelled()
+      sink.createDirectory(path)
+    }
+
+    override fun write(
+      path: String,
+      bytes: ByteArray,
+      executable: Boolean,
+    ) {
+      checkCancelled()
+      sink.write(path, bytes, executable)
+      progress.advance(bytes.size.toLong())
+    }
+
+    override fun copy(
+      path: String,
+      original: FileHandle,
+      executable: Boolean,
+    ) {
+      checkCancelled()
+      sink.copy(path, original, executable)
+      progress.advance(original.length())
+    }
+
+    /** Closing is up to whoever created the wrapped sink. */
+    override fun close() = Unit
+  }
+}
@@ -0,0 +1,114 @@
+package gdx.liftoff.data.project
+
+import com.badlogic.gdx.scenes.scene2d.utils.UIUtils
+import com.badlogic.gdx.utils.GdxRuntimeException
+import java.io.File
+import java.util.Locale
+
+/**
+ * Runs Gradle tasks in a generated project through its wrapper. The combined output is streamed line by line to the
+ * [ProjectLogger]. Each `> Task :path` header is timed, and the total build time is reported at the end.
+ *
+ * Unless their [BuildProfile] enables the daemon, generated projects set `org.gradle.daemon=false` in
+ * gradle.properties, so by default every run pays for a fresh Gradle JVM. With [useDaemon], the runner passes `--daemon` instead. The first run starts a daemon that keeps
+ * running, and later runs reuse it while it is idle. That includes runs for other generated projects, since they share
+ * the Gradle version and JVM arguments. This is meant for generating and building many projects in a row, such as with
+ * the CLI.
+ */
+class GradleRunner(
+  val useDaemon: Boolean = false,
+) {
+  /** Time spent in one task. Status is what Gradle printed after the task path, such as "UP-TO-DATE", if anything. */
+  data class TaskTiming(
+    val path: String,
+    val status: String,
+    val nanos: Long,
+  )
+
+  /** Outcome of one run; [tasks] are in the order Gradle reported them. */
+  data class Result(
+    val exitValue: Int,
+    val totalNanos: Long,
+    val tasks: List<TaskTiming>,
+  ) {
+    /** Such as "Gradle finished in 12.3 s: :core:compileJava 2.1 s, :lwjgl3:jar 0.4 s (UP-TO-DATE)". */
+    fun summary(): String {
+      val total = "Gradle finished in ${seconds(totalNanos)}"
+      if (tasks.isEmpty()) return total
+      return tasks.joinToString(prefix = "$total: ") {
+        "${it.path} ${seconds(it.nanos)}" + if (it.status.isEmpty()) "" else " (${it.status})"
+      }
+    }
+  }
+
+  /**
+   * Runs [tasks] in [projectDirectory] and waits for Gradle to finish. Each task header advances the
+   * [GenerationStage.GRADLE_TASKS] stage of [progress], if given; cancelling [monitor] stops Gradle.
+   *
+   * Task durations are measured between consecutive task headers. With the plain console, Gradle prints a header
+   * once the task has output or is done, so the measurement matches the task's duration as long as tasks run one
+   * at a time, which is the default without `--parallel`.
+   * @throws GdxRuntimeException if Gradle ends with a non-zero exit value.
+   */
+  @JvmOverloads
+  fun run(
+    projectDirectory: File,
+    tasks: List<String>,
+    logger: ProjectLogger,
+    monitor: GenerationMonitor = GenerationMonitor(),
+    progress: GenerationMonitor.StageProgress? = null,
+  ): Result {
+    val command = gradleCommand() + options() + tasks
+    logger.log(command.joinToString(separator = " "))
+    val start = System.nanoTime()
+    val timings: MutableList<TaskTiming> = mutableListOf()
+    val process =
+      ProcessBuilder(command)
+        .directory(projectDirectory)
+        .redirectErrorStream(true)
+        .start()
+    val exitValue =
+      monitor.waitFor(process) {
+        var lastMark = start
+        process.inputStream.bufferedReader().useLines { lines ->
+          lines.forEach { line ->
+            logger.log(line)
+            if (line.startsWith(TASK_HEADER)) {
+              val now = System.nanoTime()
+              val header = line.substring(TASK_HEADER.length).trim()
+              val space = header.indexOf(' ')
+              timings +=
+                TaskTiming(
+                  path = if (space < 0) header else header.substring(0, space),
+                  status = if (space < 0) "" else header.substring(space + 1).trim(),
+                  nanos = now - lastMark,
+                )
+              lastMark = now
+              progress?.advance()
+            }
+          }
+        }
+      }
+    val result = Result(exitValue, System.nanoTime() - start, timings)
+    logger.log(result.summary())
+    if (exitValue != 0) throw GdxRuntimeException("Gradle process ended with non-zero value.")
+    return result
+  }
+
+  /**
+   * Plain console output, so task headers are separate lines. Lifecycle logging, since generated projects default
+   * to quiet, which hides task headers.
+   */
+  private fun options(): List<String> =
+    listOf("--console=plain", "-Dorg.gradle.logging.level=lifecycle") + if (useDaemon) listOf("--daemon") else emptyList()
+
+  private fun gradleCommand(): List<String> =
+    if (UIUtils.isWindows) listOf("cmd", "/c", "gradlew")
+    else listOf("./gradlew")
+
+  private companion object {
+    const val TASK_HEADER = "> Task "
+
+    fun seconds(nanos: Long): String = String.format(Locale.ROOT, "%.1f s", nanos / 1e9)
+  }
+}
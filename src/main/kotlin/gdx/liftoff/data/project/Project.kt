@@ -1,18 +1,25 @@
 package gdx.liftoff.data.project
 
 import com.badlogic.gdx.Files
-import com.badlogic.gdx.scenes.scene2d.utils.UIUtils
-import com.badlogic.gdx.utils.GdxRuntimeException
+import com.badlogic.gdx.Gdx
 import gdx.liftoff.data.files.CopiedFile
+import gdx.liftoff.data.files.DiskSink
+import gdx.liftoff.data.files.IncrementalSink
+import gdx.liftoff.data.files.OutputSink
+import gdx.liftoff.data.files.ParallelFileWriter
 import gdx.liftoff.data.files.ProjectFile
 import gdx.liftoff.data.files.PropertiesFile
 import gdx.liftoff.data.files.SettingsFile
 import gdx.liftoff.data.files.SourceDirectory
 import gdx.liftoff.data.files.SourceFile
+import gdx.liftoff.data.files.ZipSink
 import gdx.liftoff.data.files.gradle.GradleFile
 import gdx.liftoff.data.files.gradle.RootGradleFile
 import gdx.liftoff.data.files.path
 import gdx.liftoff.data.languages.Java
+import gdx.liftoff.data.languages.Kotlin
+import gdx.liftoff.data.libraries.VersionCache
+import gdx.liftoff.data.libraries.VersionResolver
 import gdx.liftoff.data.platforms.Android
 import gdx.liftoff.data.platforms.Assets
 import gdx.liftoff.data.platforms.Core
@@ -20,6 +27,7 @@ import gdx.liftoff.data.platforms.GWT
 import gdx.liftoff.data.platforms.Platform
 import gdx.liftoff.data.platforms.TeaVM
 import gdx.liftoff.data.templates.Template
+import java.io.OutputStream
 
 /**
  * Contains data about the generated project.
@@ -43,6 +51,9 @@ class Project(
   val reflectedClasses: MutableSet<String> = mutableSetOf()
   val reflectedPackages: MutableSet<String> = mutableSetOf()
 
+  /** Runs [AdvancedProjectData.gradleTasks] after generation; replace it to reuse a Gradle daemon. */
+  var gradleRunner: GradleRunner = GradleRunner()
+
   // README.md:
   var readmeDescription: String = ""
   private val gradleTaskDescriptions: MutableMap<String, String> = mutableMapOf()
@@ -62,11 +73,12 @@ class Project(
         "clean" to "removes `build` folders, which store compiled classes and built archives.",
         "test" to "runs unit tests (if any).",
         "build" to "builds sources and archives of every project.",
-        "--daemon" to "thanks to this flag, Gradle daemon will be used to run chosen tasks.",
+        "generateAssetList" to "lists every file in `assets` in `assets.txt`, which every project can read as an asset. " +
+          "With `assetIndex=true` in `gradle.properties`, it also writes `assets.idx`, a binary index with the size and hash of each asset.",
         "--offline" to "when using this flag, cached dependency archives will be used.",
         "--continue" to "when using this flag, errors will not stop the tasks from running.",
         "--refresh-dependencies" to "this flag forces validation of all dependencies. Useful for snapshot versions.",
-      ).forEach {
+      ).plus(advanced.buildProfile.readmeFlags()).forEach {
         gradleTaskDescriptions[it.first] = it.second
       }
     }
@@ -85,17 +97,74 @@ class Project(
     }
   }
 
-  fun generate() {
-    addBasicFiles()
-    addJvmLanguagesSupport()
-    addExtensions()
-    template.apply(this)
-    addPlatforms()
-    addSkinAssets()
-    addReadmeFile()
-    addEditorConfig()
-    saveProperties()
-    saveFiles()
+  /**
+   * Generates the project.
+   * @param sink receives every generated file. Defaults to writing into [BasicProjectData.destination].
+   * @param monitor reports the progress of each [GenerationStage], and can cancel the generation between stages or
+   * files.
+   */
+  @JvmOverloads
+  fun generate(
+    sink: OutputSink = DiskSink(basic.destination),
+    monitor: GenerationMonitor = GenerationMonitor(),
+  ) {
+    monitor.stage(GenerationStage.EXTENSIONS) {
+      addBasicFiles()
+      addJvmLanguagesSupport()
+      addExtensions()
+    }
+    monitor.stage(GenerationStage.TEMPLATE) { template.apply(this) }
+    monitor.stage(GenerationStage.PLATFORMS) { addPlatforms(it.track(sink)) }
+    monitor.stage(GenerationStage.SKIN_ASSETS) { addSkinAssets() }
+    monitor.stage(GenerationStage.PROPERTIES) {
+      addReadmeFile()
+      addEditorConfig()
+      saveProperties(it.track(sink))
+    }
+    val writes = listOf(rootGradle) + gradleFiles.values + files
+    monitor.stage(GenerationStage.FILE_WRITES, total = writes.count { it !is SourceDirectory }) {
+      ParallelFileWriter().save(writes, it.track(sink))
+    }
+  }
+
+  /**
+   * Generates the whole project, including the Gradle wrapper, straight into a zip archive written to [output].
+   * Nothing is written to disk. Entries are placed in a folder named after the project. Closes [output] when done.
+   */
+  @JvmOverloads
+  fun generateArchive(
+    output: OutputStream,
+    logger: ProjectLogger,
+    monitor: GenerationMonitor = GenerationMonitor(),
+  ) {
+    ZipSink(output, basic.name).use { sink ->
+      generate(sink, monitor)
+      includeGradleWrapper(logger, executeGradleTasks = false, sink = sink, monitor = monitor)
+    }
+  }
+
+  /**
+   * Generates the whole project, including the Gradle wrapper, into a [BasicProjectData.destination] that may already
+   * contain an earlier generation. Unchanged files are not rewritten. If [useManifest] is true, files edited by the
+   * user since the last generation are kept, as tracked by the [DiskSink.MANIFEST_FILE], unless [overwriteEdited] is
+   * also true; otherwise every file with different content is overwritten.
+   * @return the closed sink, which reports how many files were added, changed, unchanged or kept.
+   */
+  @JvmOverloads
+  fun regenerate(
+    logger: ProjectLogger,
+    executeGradleTasks: Boolean = true,
+    monitor: GenerationMonitor = GenerationMonitor(),
+    useManifest: Boolean = false,
+    overwriteEdited: Boolean = false,
+  ): IncrementalSink {
+    val sink = IncrementalSink(basic.destination, useManifest, overwriteEdited)
+    sink.use {
+      generate(it, monitor)
+      logger.log("Regenerated project files: $it.")
+      includeGradleWrapper(logger, executeGradleTasks, it, monitor)
+    }
+    return sink
   }
 
   private fun addBasicFiles() {
@@ -122,46 +191,26 @@ class Project(
   }
 
   private fun addExtensions() {
+    // Fetches every selected version in a few concurrent, batched requests, so each Library.version below is cached.
+    if (VersionCache.fetchLatestVersions) VersionResolver().resolve(extensions)
     extensions.officialExtensions.forEach { it.initiate(this) }
     extensions.thirdPartyExtensions.forEach { it.initiate(this) }
   }
 
-  private fun addPlatforms() {
+  private fun addPlatforms(sink: OutputSink) {
     platforms.values.forEach { it.initiate(this) }
-    SettingsFile(platforms.values).save(basic.destination)
-  }
-
-  private fun saveFiles() {
-    rootGradle.save(basic.destination)
-    gradleFiles.values.forEach { it.save(basic.destination) }
-    files.forEach { it.save(basic.destination) }
+    SettingsFile(platforms.values).save(sink)
   }
 
-  private fun saveProperties() {
+  private fun saveProperties(sink: OutputSink) {
     // Adding libGDX version property:
     properties["gdxVersion"] = advanced.gdxVersion
     // This property can be changed as the created project updates:
     properties["projectVersion"] = advanced.version
-    val prepend =
-      """
-      # This doesn't need to be false, and some projects may be able to take advantage of setting daemon to true.
-      # We set it to false by default in order to avoid too many daemons from being created and persisting; each needs RAM.
-      org.gradle.daemon=false
-      # Sets starting memory usage to 512MB, maximum memory usage to 1GB, and tries to set as much to use Unicode as we can.
-      org.gradle.jvmargs=-Xms512M -Xmx1G -Dfile.encoding=UTF-8 -Dconsole.encoding=UTF-8
-      # "Configure on-demand" must be false because it breaks projects that have Android modules. The default is also false.
-      org.gradle.configureondemand=false
-      # The logging level determines which messages get shown about how Gradle itself is working, such as if build.gradle
-      # files are fully future-proof (which they never are, because Gradle constantly deprecates working APIs).
-      # You can change 'quiet' below to 'lifecycle' to use Gradle's default behavior, which shows some confusing messages.
-      # You could instead change 'quiet' below to 'info' to see info that's important mainly while debugging build files.
-      # Note that if you want to use Gradle Build Scans, you should set the below logging level to 'lifecycle', otherwise
-      # the link to the scan won't get shown at all.
-      # Documented at: https://docs.gradle.org/current/userguide/command_line_interface.html#sec:command_line_logging
-      org.gradle.logging.level=quiet
-
-      """.trimIndent()
-    PropertiesFile(properties, prepend).save(basic.destination)
+    // Set to true to also generate the binary asset index, assets.idx, next to assets.txt:
+    properties["assetIndex"] = "false"
+    val prepend = advanced.buildProfile.gradleProperties(platforms.size, languages.list.any { it.id == Kotlin.id })
+    PropertiesFile(properties, prepend).save(sink)
   }
 
   private fun addSkinAssets() {
@@ -259,6 +308,7 @@ ${platforms.values.filter { it.description.isNotBlank() }
 
 This project uses [Gradle](https://gradle.org/) to manage dependencies.
 The Gradle wrapper was included, so you can run Gradle tasks using `gradlew.bat` or `./gradlew` commands.
+The `gradle.properties` file uses the ${advanced.buildProfile.title} build profile; its comments explain each memory and caching setting.
 Useful Gradle tasks and flags:
 
 ${gradleTaskDescriptions.map { "- `${it.key}`: ${it.value}" }.sorted().joinToString(separator = "\n")}
@@ -312,44 +362,43 @@ trim_trailing_whitespace = false
     return alerts
   }
 
+  /**
+   * Copies the Gradle wrapper into the project and optionally runs [AdvancedProjectData.gradleTasks].
+   * Gradle tasks can only run when [sink] is a [DiskSink], since they need the project on disk. They are run by
+   * [gradleRunner], which streams their output to [logger].
+   * @param monitor reports the [GenerationStage.WRAPPER] and [GenerationStage.GRADLE_TASKS] stages; cancelling it
+   * stops the Gradle process.
+   */
+  @JvmOverloads
   fun includeGradleWrapper(
     logger: ProjectLogger,
     executeGradleTasks: Boolean = true,
+    sink: OutputSink = DiskSink(basic.destination),
+    monitor: GenerationMonitor = GenerationMonitor(),
   ) {
-    arrayOf(
-      "gradlew",
-      "gradlew.bat",
-      path("gradle", "gradle-daemon-jvm.properties"),
-      path("gradle", "wrapper", "gradle-wrapper.jar"),
-      path("gradle", "wrapper", "gradle-wrapper.properties"),
-    ).forEach {
-      CopiedFile(path = it, original = path("generator", it)).save(basic.destination)
+    val wrapperFiles =
+      arrayOf(
+        "gradlew",
+        "gradlew.bat",
+        path("gradle", "gradle-daemon-jvm.properties"),
+        path("gradle", "wrapper", "gradle-wrapper.jar"),
+        path("gradle", "wrapper", "gradle-wrapper.properties"),
+      )
+    monitor.stage(GenerationStage.WRAPPER, total = wrapperFiles.size) { progress ->
+      val tracked = progress.track(sink)
+      wrapperFiles.forEach {
+        tracked.copy(it, Gdx.files.internal(path("generator", it)), executable = it == "gradlew" || it == "gradlew.bat")
+      }
     }
-    basic.destination
-      .child("gradlew")
-      .file()
-      .setExecutable(true)
-    basic.destination
-      .child("gradlew.bat")
-      .file()
-      .setExecutable(true)
     logger.logNls("copyGradle")
     val gradleTasks: MutableList<String> = advanced.gradleTasks
-    if (executeGradleTasks && gradleTasks.isNotEmpty()) {
-      logger.logNls("runningGradleTasks")
-      val commands: Array<String> = determineGradleCommand() + gradleTasks
-      logger.log(commands.joinToString(separator = " "))
-      val process = ProcessBuilder(*commands)
-        .directory(basic.destination.file())
-        .inheritIO()
-        .start()
-      if (process.waitFor() != 0) throw GdxRuntimeException("Gradle process ended with non-zero value.")
+    if (executeGradleTasks && gradleTasks.isNotEmpty() && sink is DiskSink) {
+      monitor.stage(GenerationStage.GRADLE_TASKS) { progress ->
+        logger.logNls("runningGradleTasks")
+        gradleRunner.run(sink.root.file(), gradleTasks, logger, monitor, progress)
+      }
     }
   }
-
-  private fun determineGradleCommand(): Array<String> =
-    if (UIUtils.isWindows) arrayOf("cmd", "/c", "gradlew")
-    else arrayOf("./gradlew")
 }
 
 interface ProjectLogger {
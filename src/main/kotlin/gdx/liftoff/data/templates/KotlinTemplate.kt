@@ -492,6 +492,8 @@ object TeaVMBuilder {
 
         TeaBuilder(webBackend)
             .addAssets(AssetFileHandle("../${Assets.ID}"))
+            // Holds assets.txt, written by the root project's generateAssetList task.
+            .addAssets(AssetFileHandle("../build/generated/assetList"))
             ${project.teaBuilderLines.joinToString("\n            ").replace("new ", "")}
             .setOptimizationLevel(if (debug) TeaVMOptimizationLevel.SIMPLE else TeaVMOptimizationLevel.ADVANCED)
             .setMainClass("${project.basic.rootPackage}.teavm.TeaVMLauncher")
@@ -0,0 +1,77 @@
+package gdx.liftoff.data.templates
+
+import com.badlogic.gdx.Gdx
+import com.badlogic.gdx.utils.GdxRuntimeException
+import gdx.liftoff.data.project.Project
+import java.util.concurrent.ConcurrentHashMap
+
+/**
+ * A source file stored as a resource, with `${name}` placeholders such as `${project.basic.rootPackage}`.
+ * The text is parsed once into alternating literal segments and placeholder names; rendering only looks up each
+ * placeholder and appends everything into a single buffer sized up front. Compiled templates are cached by path, so
+ * a resource is only read and parsed the first time it is used.
+ *
+ * Unlike Kotlin string templates, placeholders are plain names rather than expressions; see [variables] for the names
+ * available when rendering for a [Project]. Any other `$` character is kept as-is.
+ */
+class SourceTemplate private constructor(
+  private val literals: Array<String>,
+  private val placeholders: Array<String>,
+) {
+  private val literalLength: Int = literals.sumOf { it.length }
+
+  /** Renders the template, replacing each placeholder with its value in [values]. */
+  fun render(values: Map<String, String>): String {
+    val resolved =
+      Array(placeholders.size) {
+        values[placeholders[it]] ?: throw GdxRuntimeException("No value for template placeholder: ${placeholders[it]}")
+      }
+    val builder = StringBuilder(literalLength + resolved.sumOf { it.length })
+    for (index in placeholders.indices) {
+      builder.append(literals[index]).append(resolved[index])
+    }
+    return builder.append(literals[placeholders.size]).toString()
+  }
+
+  /** Renders the template with the standard [variables] of [project]. */
+  fun render(project: Project): String = render(variables(project))
+
+  companion object {
+    private val cache: MutableMap<String, SourceTemplate> = ConcurrentHashMap(64)
+
+    /** Returns the compiled template stored at the internal [path], reading and parsing it only once. */
+    @JvmStatic
+    fun get(path: String): SourceTemplate =
+      cache.getOrPut(path) { compile(Gdx.files.internal(path).readString("UTF-8")) }
+
+    /** Parses [text] into a template. Placeholders start with `${` and end with the next `}`. */
+    @JvmStatic
+    fun compile(text: String): SourceTemplate {
+      val literals: MutableList<String> = mutableListOf()
+      val placeholders: MutableList<String> = mutableListOf()
+      var start = 0
+      var open = text.indexOf("\${")
+      while (open >= 0) {
+        val close = text.indexOf('}', open + 2)
+        if (close < 0) break
+        literals.add(text.substring(start, open))
+        placeholders.add(text.substring(open + 2, close).trim())
+        start = close + 1
+        open = text.indexOf("\${", start)
+      }
+      literals.add(text.substring(start))
+      return SourceTemplate(literals.toTypedArray(), placeholders.toTypedArray())
+    }
+
+    /** Placeholder values available to every template rendered for [project]. */
+    @JvmStatic
+    fun variables(project: Project): Map<String, String> =
+      mapOf(
+        "project.basic.name" to project.basic.name,
+        "project.basic.rootPackage" to project.basic.rootPackage,
+        "project.basic.mainClass" to project.basic.mainClass,
+        "project.template.width" to project.template.width,
+        "project.template.height" to project.template.height,
+      )
+  }
+}
@@ -784,6 +784,8 @@ public class TeaVMBuilder {
                 .setJettyPort(8080);
         new TeaBuilder(backend)
             .addAssets(new AssetFileHandle("../${Assets.ID}"))
+            // Holds assets.txt, written by the root project's generateAssetList task.
+            .addAssets(new AssetFileHandle("../build/generated/assetList"))
             ${project.teaBuilderLines.joinToString("\n            ")}
             .setOptimizationLevel(debug ? TeaVMOptimizationLevel.SIMPLE : TeaVMOptimizationLevel.ADVANCED)
             .setMainClass(TeaVMLauncher.class.getName())
@@ -829,4 +831,28 @@ ${generateTeaVMReflectionIncludes(project)}
       )
     }
   }
+
+  /**
+   * Adds a source file whose content is the [SourceTemplate] resource at [template], rendered for [project].
+   * Prefer this over [addSourceFile] for large sources, which stay readable as plain files in the resources.
+   */
+  fun addTemplateSourceFile(
+    project: Project,
+    platform: String,
+    packageName: String,
+    fileName: String,
+    template: String,
+    sourceFolderPath: String = defaultSourceFolder,
+  ) {
+    if (project.hasPlatform(platform)) {
+      addSourceFile(
+        project = project,
+        platform = platform,
+        packageName = packageName,
+        fileName = fileName,
+        content = SourceTemplate.get(template).render(project),
+        sourceFolderPath = sourceFolderPath,
+      )
+    }
+  }
 }
@@ -0,0 +1,217 @@
+package gdx.liftoff.data.libraries
+
+import com.sun.net.httpserver.HttpExchange
+import com.sun.net.httpserver.HttpServer
+import gdx.liftoff.data.project.Project
+import org.junit.jupiter.api.AfterEach
+import org.junit.jupiter.api.Assertions.assertEquals
+import org.junit.jupiter.api.Assertions.assertNull
+import org.junit.jupiter.api.Assertions.assertTrue
+import org.junit.jupiter.api.BeforeEach
+import org.junit.jupiter.api.Test
+import org.junit.jupiter.api.io.TempDir
+import java.io.File
+import java.net.InetSocketAddress
+import java.net.URLDecoder
+import java.util.concurrent.Callable
+import java.util.concurrent.Executors
+import java.util.concurrent.atomic.AtomicInteger
+
+/**
+ * Tests [VersionResolver] against a local stand-in for the Maven Central search API and the JitPack builds API.
+ * Every test uses its own artifact group, since repositories and the resolver keep versions and requests globally, and
+ * its own server port, since request limits are kept per host and port.
+ */
+class VersionResolverTest {
+  private lateinit var server: HttpServer
+  private val serverThreads = Executors.newCachedThreadPool()
+  private val mavenCentralRequests = AtomicInteger()
+  private val jitPackRequests = AtomicInteger()
+  private val running = AtomicInteger()
+  private val maxRunning = AtomicInteger()
+
+  /** Milliseconds each response is delayed by, so that concurrent requests overlap. */
+  @Volatile
+  private var delay = 0L
+
+  /** If true, queries for more than one artifact fail with HTTP 500. */
+  @Volatile
+  private var rejectBatches = false
+
+  private var previousSearchUrl = ""
+  private var previousApiUrl = ""
+  private var previousCacheFile: File? = null
+
+  @BeforeEach
+  fun startServer(
+    @TempDir directory: File,
+  ) {
+    server = HttpServer.create(InetSocketAddress("127.0.0.1", 0), 0)
+    server.executor = serverThreads
+    server.createContext("/solrsearch/select") { exchange -> respond(exchange) { searchMavenCentral(exchange) } }
+    server.createContext("/api/builds") { exchange -> respond(exchange) { searchJitPack(exchange) } }
+    server.start()
+    val base = "http://127.0.0.1:${server.address.port}"
+    previousSearchUrl = Repository.MavenCentral.searchUrl
+    previousApiUrl = Repository.JitPack.apiUrl
+    previousCacheFile = VersionCache.file
+    Repository.MavenCentral.searchUrl = "$base/solrsearch/select"
+    Repository.JitPack.apiUrl = "$base/api/builds"
+    VersionCache.file = File(directory, "versions.properties")
+    VersionCache.offline = false
+  }
+
+  @AfterEach
+  fun stopServer() {
+    server.stop(0)
+    serverThreads.shutdownNow()
+    Repository.MavenCentral.searchUrl = previousSearchUrl
+    Repository.JitPack.apiUrl = previousApiUrl
+    previousCacheFile?.let { VersionCache.file = it }
+  }
+
+  @Test
+  fun batchesMavenCentralArtifacts() {
+    val libraries = (1..30).map { library("batch", "artifact$it") }
+    val versions = VersionResolver(batchSize = 25).resolve(libraries)
+
+    assertEquals(30, versions.size)
+    assertEquals("1.0.artifact7", versions["batch-artifact7"])
+    assertEquals(2, mavenCentralRequests.get())
+  }
+
+  @Test
+  fun doesNotRequestCachedVersionsAgain() {
+    val libraries = (1..5).map { library("cached", "artifact$it") }
+    VersionResolver().resolve(libraries)
+    val versions = VersionResolver().resolve(libraries)
+
+    assertEquals(5, versions.size)
+    assertEquals(1, mavenCentralRequests.get())
+    VersionCache.flush()
+    assertTrue(VersionCache.file.readText().contains("artifact3"))
+  }
+
+  @Test
+  fun fallsBackToSingleQueriesWhenABatchFails() {
+    rejectBatches = true
+    val libraries = (1..4).map { library("fallback", "artifact$it") }
+    val versions = VersionResolver().resolve(libraries)
+
+    assertEquals(4, versions.size)
+    assertEquals("1.0.artifact2", versions["fallback-artifact2"])
+    // The rejected batch, then one query per artifact.
+    assertEquals(5, mavenCentralRequests.get())
+  }
+
+  @Test
+  fun sharesInFlightRequestsBetweenResolvers() {
+    delay = 300
+    val libraries = listOf(library("shared", "artifact"))
+    val threads = Executors.newFixedThreadPool(4)
+    try {
+      val results = threads.invokeAll((1..4).map { Callable { VersionResolver().resolve(libraries) } }).map { it.get() }
+
+      results.forEach { assertEquals("1.0.artifact", it["shared-artifact"]) }
+      assertEquals(1, mavenCentralRequests.get())
+    } finally {
+      threads.shutdownNow()
+    }
+  }
+
+  @Test
+  fun limitsConcurrentRequestsPerHost() {
+    delay = 100
+    val libraries = (1..8).map { library("limited", "artifact$it", Repository.JitPack) }
+    val versions = VersionResolver(maxRequestsPerHost = 2).resolve(libraries)
+
+    assertEquals(8, versions.size)
+    assertEquals(8, jitPackRequests.get())
+    assertTrue(maxRunning.get() <= 2, "At most 2 requests should run at once, but ${maxRunning.get()} did.")
+  }
+
+  @Test
+  fun givesUpOnSlowRequestsAtOneDeadline() {
+    delay = 1000
+    val libraries = (1..6).map { library("slow", "artifact$it", Repository.JitPack) }
+    val start = System.nanoTime()
+    val versions = VersionResolver(maxRequestsPerHost = 1, timeout = 200).resolve(libraries)
+    val elapsed = (System.nanoTime() - start) / 1_000_000
+
+    assertTrue(versions.isEmpty())
+    assertTrue(elapsed < 1000, "The resolve should give up after 200 ms, but it took $elapsed ms.")
+    // The queued fetches were given up on, so a new resolver requests them again instead of waiting for them.
+    delay = 0
+    assertEquals(6, VersionResolver().resolve(libraries).size)
+  }
+
+  @Test
+  fun returnsNullWhenJitPackFailsWithoutGdxApp() {
+    // Like the CLI and the benchmarks, tests never set Gdx.app, so the failure must not be logged through it.
+    assertNull(Repository.JitPack.getLatestVersion("test.failing", "artifact"))
+    assertEquals(1, jitPackRequests.get())
+  }
+
+  private fun respond(
+    exchange: HttpExchange,
+    handler: () -> Pair<Int, String>,
+  ) {
+    maxRunning.accumulateAndGet(running.incrementAndGet()) { a, b -> maxOf(a, b) }
+    try {
+      if (delay > 0) Thread.sleep(delay)
+      val (status, body) = handler()
+      val bytes = body.toByteArray(Charsets.UTF_8)
+      exchange.responseHeaders.add("Content-Type", "application/json")
+      exchange.sendResponseHeaders(status, bytes.size.toLong())
+      exchange.responseBody.use { it.write(bytes) }
+    } finally {
+      running.decrementAndGet()
+    }
+  }
+
+  /** Answers Solr queries made of `g:"group" AND a:"name"` clauses, giving each artifact the version "1.0.name". */
+  private fun searchMavenCentral(exchange: HttpExchange): Pair<Int, String> {
+    mavenCentralRequests.incrementAndGet()
+    val query =
+      exchange.requestURI.rawQuery
+        .split('&')
+        .map { it.split('=', limit = 2) }
+        .firstOrNull { it[0] == "q" }
+        ?.let { URLDecoder.decode(it[1], "UTF-8") } ?: ""
+    val artifacts = CLAUSE.findAll(query).map { it.groupValues[1] to it.groupValues[2] }.toList()
+    if (rejectBatches && artifacts.size > 1) return 500 to "{}"
+    val docs = artifacts.joinToString(separator = ",") { (group, name) -> """{"g":"$group","a":"$name","latestVersion":"1.0.$name"}""" }
+    return 200 to """{"response":{"numFound":${artifacts.size},"docs":[$docs]}}"""
+  }
+
+  /** Answers `/api/builds/group/name/latest`, giving each artifact the version "1.0.name", or fails for "*.failing". */
+  private fun searchJitPack(exchange: HttpExchange): Pair<Int, String> {
+    jitPackRequests.incrementAndGet()
+    if (exchange.requestURI.path.contains(".failing/")) return 500 to "{}"
+    val name = exchange.requestURI.path.split('/').dropLast(1).last()
+    return 200 to """{"version":"1.0.$name"}"""
+  }
+
+  private fun library(
+    group: String,
+    name: String,
+    repository: Repository = Repository.MavenCentral,
+  ): Library = TestLibrary("$group-$name", "test.$group", name, repository)
+
+  private class TestLibrary(
+    override val id: String,
+    override val group: String,
+    override val name: String,
+    override val repository: Repository,
+  ) : Library {
+    override val url = "https://example.com"
+    override val official = false
+    override val defaultVersion = "0.0.1"
+
+    override fun initiate(project: Project) = Unit
+  }
+
+  private companion object {
+    val CLAUSE = Regex("""g:"([^"]+)" AND a:"([^"]+)"""")
+  }
+}